@@ -0,0 +1,79 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.config.AccessTokenFilter;
+import com.hospital.management.dto.AuthenticatedUser;
+import com.hospital.management.model.User;
+import com.hospital.management.service.AccessTokenService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the auth layer: verifying a bearer token on its own, and the whole
+ * AccessTokenFilter pass (header parsing, verification, principal and security context).
+ * Run with several threads (-t 8) to check the shared Mac pool does not serialise requests.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class AccessTokenBenchmark extends DatasetState {
+
+    private static final String[] ROLES = {"ADMIN", "DOCTOR", "PATIENT"};
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> SecurityContextHolder.clearContext();
+
+    private AccessTokenService accessTokenService;
+    private AccessTokenFilter filter;
+    private String[] tokens;
+
+    @Override
+    protected void resolveBeans() {
+        accessTokenService = context.getBean(AccessTokenService.class);
+        filter = new AccessTokenFilter(accessTokenService, false);
+        tokens = new String[1024];
+        for (int i = 0; i < tokens.length; i++) {
+            User user = new User("User " + i, "user" + i + "@example.com", "secret", ROLES[i % ROLES.length]);
+            user.setId((long) i + 1);
+            tokens[i] = accessTokenService.issueToken(user);
+        }
+    }
+
+    @Benchmark
+    public AuthenticatedUser verifyToken() {
+        return accessTokenService.verifyToken(pick());
+    }
+
+    @Benchmark
+    public int filterRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/patients");
+        request.addHeader("Authorization", "Bearer " + pick());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public String issueToken() {
+        User user = new User("User", "user@example.com", "secret", "DOCTOR");
+        user.setId(ThreadLocalRandom.current().nextLong(1, 100_000));
+        return accessTokenService.issueToken(user);
+    }
+
+    private String pick() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+}
@@ -0,0 +1,52 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.dto.DoctorAvailability;
+import com.hospital.management.service.AvailabilityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Free-slot search over a window of days, for one doctor and for every doctor of a
+ * specialization (the seed spreads doctors over five specializations).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 6, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark extends DatasetState {
+
+    @Param({"30"})
+    public int windowDays;
+
+    private AvailabilityService availabilityService;
+    private Long doctorId;
+
+    @Override
+    protected void resolveBeans() {
+        availabilityService = context.getBean(AvailabilityService.class);
+        doctorId = dataset.doctor(0).getId();
+    }
+
+    @Benchmark
+    public DoctorAvailability singleDoctor() {
+        LocalDate from = LocalDate.now().plusDays(1);
+        return availabilityService.getDoctorAvailability(doctorId, from, from.plusDays(windowDays - 1));
+    }
+
+    @Benchmark
+    public List<DoctorAvailability> bySpecialization() {
+        LocalDate from = LocalDate.now().plusDays(1);
+        return availabilityService.getAvailabilityBySpecialization("Cardiology", from, from.plusDays(windowDays - 1));
+    }
+}
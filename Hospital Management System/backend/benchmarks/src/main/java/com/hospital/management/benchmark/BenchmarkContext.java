@@ -0,0 +1,215 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.HospitalManagementApplication;
+import com.hospital.management.config.IdGeneratorInitializer;
+import com.hospital.management.model.Doctor;
+import com.hospital.management.model.Patient;
+import com.hospital.management.repository.DoctorRepository;
+import com.hospital.management.repository.PatientRepository;
+import com.hospital.management.service.DashboardCounterService;
+import com.hospital.management.service.ReportRollupService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application without the web layer against a private in-memory H2 database
+ * (MySQL mode) and seeds it with a synthetic dataset.
+ */
+public final class BenchmarkContext {
+
+    private static final AtomicLong DATABASE_SEQUENCE = new AtomicLong();
+    private static final int BATCH_SIZE = 1000;
+    private static final int SAMPLE_SIZE = 100;
+    private static final int MEDICINES = 50;
+    private static final String[] SPECIALIZATIONS = {"Cardiology", "Neurology", "Orthopedics", "Pediatrics", "Dermatology"};
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Start a fresh context. Overrides are passed as command-line arguments so they win over
+     * the application's own application.properties.
+     */
+    public static ConfigurableApplicationContext start(Map<String, String> overrides) {
+        return start(overrides, defaultBuilder());
+    }
+
+    /**
+     * The builder start(overrides) uses: the application without the web layer
+     */
+    public static SpringApplicationBuilder defaultBuilder() {
+        return new SpringApplicationBuilder(HospitalManagementApplication.class).web(WebApplicationType.NONE);
+    }
+
+    /**
+     * Start a fresh context from a caller-configured builder, e.g. with the web server enabled
+     */
+    public static ConfigurableApplicationContext start(Map<String, String> overrides, SpringApplicationBuilder builder) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:bench" + DATABASE_SEQUENCE.incrementAndGet()
+            + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        // Meters are still recorded; only the metrics HTTP port is not opened
+        properties.put("management.server.port", "-1");
+        // Keep background jobs out of the measurements
+        properties.put("dashboard.counters.reconcile-cron", "-");
+        properties.put("dashboard.counters.refresh-interval-ms", "3600000");
+        properties.putAll(overrides);
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return builder.run(args.toArray(new String[0]));
+    }
+
+    /**
+     * Insert the dataset with plain JDBC batches, then rebuild the derived tables
+     * (dashboard counters, report rollups) that the write path would normally maintain.
+     * Appointments and bills are spread over the two years before today.
+     */
+    public static Dataset seed(ConfigurableApplicationContext context, int patients, int doctors,
+                               int appointmentsPerPatient) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LocalDate today = LocalDate.now();
+
+        List<Object[]> patientRows = new ArrayList<>();
+        for (int i = 0; i < patients; i++) {
+            patientRows.add(new Object[] {i + 1L, "Patient " + i, i % 2 == 0 ? "MALE" : "FEMALE", 20 + i % 60,
+                "O+", String.format("9%09d", i), "Address " + i});
+        }
+        // Patient ids come from a table generator, so assign them here and move the generator past them
+        batch(jdbcTemplate, "INSERT INTO patients (id, patient_name, gender, age, blood_group, contact_number, address, active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, true)", patientRows);
+        context.getBean(IdGeneratorInitializer.class).initialize();
+
+        List<Object[]> doctorRows = new ArrayList<>();
+        for (int i = 0; i < doctors; i++) {
+            doctorRows.add(new Object[] {"Doctor " + i, SPECIALIZATIONS[i % SPECIALIZATIONS.length], "MBBS",
+                5 + i % 30, String.format("8%09d", i), "doctor" + i + "@hospital.test"});
+        }
+        batch(jdbcTemplate, "INSERT INTO doctors (doctor_name, specialization, qualification, experience, contact_number, email, active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, true)", doctorRows);
+
+        List<Long> patientIds = jdbcTemplate.queryForList("SELECT id FROM patients ORDER BY id", Long.class);
+        List<Long> doctorIds = jdbcTemplate.queryForList("SELECT id FROM doctors ORDER BY id", Long.class);
+
+        List<Object[]> appointmentRows = new ArrayList<>();
+        List<Object[]> billingRows = new ArrayList<>();
+        int row = 0;
+        for (Long patientId : patientIds) {
+            for (int j = 0; j < appointmentsPerPatient; j++, row++) {
+                Date date = Date.valueOf(today.minusDays(row % 730));
+                Long doctorId = doctorIds.get(row % doctorIds.size());
+                appointmentRows.add(new Object[] {date, (9 + row % 8) + ":00 AM", "Checkup", "SCHEDULED", patientId, doctorId});
+                billingRows.add(new Object[] {date, 500.0, 250.0 + row % 100, 120.5, 870.5 + row % 100,
+                    "CASH", row % 3 == 0 ? "PENDING" : "PAID", patientId});
+                if (appointmentRows.size() == BATCH_SIZE) {
+                    flushAppointmentsAndBills(jdbcTemplate, appointmentRows, billingRows);
+                }
+            }
+        }
+        flushAppointmentsAndBills(jdbcTemplate, appointmentRows, billingRows);
+
+        context.getBean(ReportRollupService.class).rebuild();
+        context.getBean(DashboardCounterService.class).reconcile();
+
+        List<Patient> samplePatients = context.getBean(PatientRepository.class)
+            .findByActiveTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(SAMPLE_SIZE));
+        List<Doctor> sampleDoctors = context.getBean(DoctorRepository.class)
+            .findByActiveTrueAndIdGreaterThanOrderByIdAsc(0L, Limit.of(SAMPLE_SIZE));
+        long middleAppointmentId = jdbcTemplate.queryForObject(
+            "SELECT COALESCE((MIN(id) + MAX(id)) / 2, 0) FROM appointments", Long.class);
+        return new Dataset(samplePatients, sampleDoctors, middleAppointmentId);
+    }
+
+    /**
+     * Add one prescription, lab test and medical record per seeded appointment, so they are spread
+     * over every patient and doctor. Every other prescription is linked to its appointment and
+     * has one item from a small medicine catalogue.
+     */
+    public static void seedClinicalRecords(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> medicineRows = new ArrayList<>();
+        for (int i = 0; i < MEDICINES; i++) {
+            medicineRows.add(new Object[] {"Medicine " + i, 2.5 + i % 10, 1000});
+        }
+        batch(jdbcTemplate, "INSERT INTO medicines (medicine_name, price, stock, active) VALUES (?, ?, ?, true)", medicineRows);
+        long firstMedicineId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM medicines", Long.class);
+
+        jdbcTemplate.update("INSERT INTO prescriptions (prescription_date, diagnosis, medicines, patient_id, doctor_id, " +
+            "appointment_id, active) SELECT appointment_date, 'Seasonal flu', 'Paracetamol 500mg', patient_id, doctor_id, " +
+            "CASE WHEN MOD(id, 2) = 0 THEN id END, true FROM appointments");
+        jdbcTemplate.update("INSERT INTO prescription_items (prescription_id, medicine_id, quantity) " +
+            "SELECT id, ? + MOD(id, ?), 1 FROM prescriptions WHERE appointment_id IS NOT NULL", firstMedicineId, MEDICINES);
+        jdbcTemplate.update("INSERT INTO lab_tests (test_name, test_fee, status, patient_id, active) " +
+            "SELECT 'Blood panel', 350.00, 'PENDING', patient_id, true FROM appointments");
+        jdbcTemplate.update("INSERT INTO medical_records (visit_date, symptoms, diagnosis, treatment, patient_id, active) " +
+            "SELECT appointment_date, 'Fever', 'Seasonal flu', 'Rest and fluids', patient_id, true FROM appointments");
+    }
+
+    private static void flushAppointmentsAndBills(JdbcTemplate jdbcTemplate, List<Object[]> appointmentRows,
+                                                  List<Object[]> billingRows) {
+        batch(jdbcTemplate, "INSERT INTO appointments (appointment_date, appointment_time, reason, status, patient_id, doctor_id, active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, true)", appointmentRows);
+        batch(jdbcTemplate, "INSERT INTO billings (bill_date, consultation_fee, treatment_fee, medicine_fee, total_amount, " +
+            "payment_mode, payment_status, patient_id, active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, true)", billingRows);
+        appointmentRows.clear();
+        billingRows.clear();
+    }
+
+    private static void batch(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(start, Math.min(start + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    /**
+     * Handles into the seeded data: detached patients and doctors to attach new rows to,
+     * and an appointment id halfway through the table for keyset reads
+     */
+    public static final class Dataset {
+
+        private final List<Patient> patients;
+        private final List<Doctor> doctors;
+        private final long middleAppointmentId;
+
+        Dataset(List<Patient> patients, List<Doctor> doctors, long middleAppointmentId) {
+            this.patients = patients;
+            this.doctors = doctors;
+            this.middleAppointmentId = middleAppointmentId;
+        }
+
+        public Patient patient(long sequence) {
+            return patients.get((int) (sequence % patients.size()));
+        }
+
+        public Doctor doctor(long sequence) {
+            return doctors.get((int) (sequence % doctors.size()));
+        }
+
+        public int doctorCount() {
+            return doctors.size();
+        }
+
+        public long getMiddleAppointmentId() {
+            return middleAppointmentId;
+        }
+    }
+}
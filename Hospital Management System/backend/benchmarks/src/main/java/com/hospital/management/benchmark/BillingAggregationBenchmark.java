@@ -0,0 +1,106 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.dto.ReportBucket;
+import com.hospital.management.model.ReportGranularity;
+import com.hospital.management.repository.BillingRepository;
+import com.hospital.management.service.ReportRollupService;
+import com.hospital.management.service.ReportsService;
+import com.hospital.management.util.MoneyUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revenue aggregation over DECIMAL money columns: the SUMs the database runs for the dashboard
+ * and the rollup rebuild, and the same fold over every bill total in memory as double, BigDecimal
+ * and long minor units (the form the counters and rollups accumulate in).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BillingAggregationBenchmark extends DatasetState {
+
+    private BillingRepository billingRepository;
+    private ReportsService reportsService;
+    private ReportRollupService reportRollupService;
+
+    private double[] totalsAsDouble;
+    private BigDecimal[] totals;
+    private long[] totalsInMinorUnits;
+
+    @Override
+    protected void resolveBeans() {
+        billingRepository = context.getBean(BillingRepository.class);
+        reportsService = context.getBean(ReportsService.class);
+        reportRollupService = context.getBean(ReportRollupService.class);
+
+        List<BigDecimal> amounts = context.getBean(JdbcTemplate.class)
+            .queryForList("SELECT total_amount FROM billings ORDER BY id", BigDecimal.class);
+        totalsAsDouble = new double[amounts.size()];
+        totals = new BigDecimal[amounts.size()];
+        totalsInMinorUnits = new long[amounts.size()];
+        for (int i = 0; i < amounts.size(); i++) {
+            totalsAsDouble[i] = amounts.get(i).doubleValue();
+            totals[i] = amounts.get(i);
+            totalsInMinorUnits[i] = MoneyUtil.toMinor(amounts.get(i));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal totalRevenueQuery() {
+        return billingRepository.getTotalRevenue();
+    }
+
+    @Benchmark
+    public List<Object[]> paidRevenueByBillDateQuery() {
+        return billingRepository.sumPaidByBillDate();
+    }
+
+    @Benchmark
+    public List<ReportBucket> monthlyRevenueByPaymentMode() {
+        return reportsService.getRevenueByPaymentMode(ReportGranularity.MONTH, null, null);
+    }
+
+    @Benchmark
+    public long rebuildRollups() {
+        return reportRollupService.rebuild();
+    }
+
+    @Benchmark
+    public double sumAsDouble() {
+        double sum = 0;
+        for (double total : totalsAsDouble) {
+            sum += total;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public BigDecimal sumAsBigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal total : totals) {
+            sum = sum.add(total);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumInMinorUnits() {
+        long sum = 0;
+        for (long total : totalsInMinorUnits) {
+            sum += total;
+        }
+        return sum;
+    }
+}
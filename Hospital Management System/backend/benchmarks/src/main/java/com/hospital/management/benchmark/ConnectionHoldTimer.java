@@ -0,0 +1,65 @@
+package com.hospital.management.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times how long the application holds each pooled connection, from getConnection until it is
+ * closed (handed back to the pool). Register it on the builder before the context starts.
+ */
+final class ConnectionHoldTimer implements BeanPostProcessor {
+
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder heldNanos = new LongAdder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource)) {
+            return bean;
+        }
+        return new DelegatingDataSource((DataSource) bean) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return timed(super.getConnection());
+            }
+        };
+    }
+
+    void reset() {
+        connections.reset();
+        heldNanos.reset();
+    }
+
+    long getConnections() {
+        return connections.sum();
+    }
+
+    long getHeldNanos() {
+        return heldNanos.sum();
+    }
+
+    private Connection timed(Connection connection) {
+        long borrowedAt = System.nanoTime();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                    heldNanos.add(System.nanoTime() - borrowedAt);
+                    connections.increment();
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+}
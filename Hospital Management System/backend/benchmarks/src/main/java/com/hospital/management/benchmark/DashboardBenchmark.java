@@ -0,0 +1,75 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.dto.DashboardSummary;
+import com.hospital.management.service.DashboardService;
+import com.hospital.management.service.DashboardServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dashboard summary under each dashboard.summary.strategy: latency as the score, and how long each
+ * call holds pooled connections, printed after every iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark extends DatasetState {
+
+    @Param({DashboardServiceImpl.STRATEGY_COUNTERS, DashboardServiceImpl.STRATEGY_AGGREGATE, DashboardServiceImpl.STRATEGY_PER_TABLE})
+    public String strategy;
+
+    private DashboardService dashboardService;
+    private final ConnectionHoldTimer holdTimer = new ConnectionHoldTimer();
+    private final LongAdder calls = new LongAdder();
+
+    @Override
+    protected Map<String, String> properties() {
+        return Map.of("dashboard.summary.strategy", strategy);
+    }
+
+    @Override
+    protected SpringApplicationBuilder applicationBuilder() {
+        return super.applicationBuilder()
+            .initializers(context -> context.getBeanFactory().addBeanPostProcessor(holdTimer));
+    }
+
+    @Override
+    protected void resolveBeans() {
+        dashboardService = context.getBean(DashboardService.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetHoldTime() {
+        holdTimer.reset();
+        calls.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportHoldTime() {
+        long count = Math.max(1, calls.sum());
+        System.out.printf("%n  [%s] connection hold %.2f us per call, %.2f connections per call (%d calls)%n",
+            strategy, holdTimer.getHeldNanos() / 1000.0 / count, holdTimer.getConnections() / (double) count, calls.sum());
+    }
+
+    @Benchmark
+    public DashboardSummary dashboardSummary() {
+        calls.increment();
+        return dashboardService.getDashboardSummary();
+    }
+}
@@ -0,0 +1,63 @@
+package com.hospital.management.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * One application context and seeded database per trial. Dataset sizes are JMH parameters,
+ * e.g. -p patients=10000 -p appointmentsPerPatient=10.
+ */
+@State(Scope.Benchmark)
+public abstract class DatasetState {
+
+    @Param({"1000"})
+    public int patients;
+
+    @Param({"20"})
+    public int doctors;
+
+    @Param({"5"})
+    public int appointmentsPerPatient;
+
+    protected ConfigurableApplicationContext context;
+    protected BenchmarkContext.Dataset dataset;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start(properties(), applicationBuilder());
+        dataset = BenchmarkContext.seed(context, patients, doctors, appointmentsPerPatient);
+        resolveBeans();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Extra application properties for this benchmark
+     */
+    protected Map<String, String> properties() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Builder for this benchmark's context, e.g. with extra bean post-processors
+     */
+    protected SpringApplicationBuilder applicationBuilder() {
+        return BenchmarkContext.defaultBuilder();
+    }
+
+    protected abstract void resolveBeans();
+}
@@ -0,0 +1,191 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.exception.InsufficientStockException;
+import com.hospital.management.model.Medicine;
+import com.hospital.management.model.Prescription;
+import com.hospital.management.model.PrescriptionItem;
+import com.hospital.management.repository.MedicineRepository;
+import com.hospital.management.service.PrescriptionService;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stock check for dispensing: many pharmacists dispensing the same popular drug at once. Every
+ * operation writes a prescription with a line for the popular drug and one for a well-stocked drug
+ * (in random order) and dispenses it. Afterwards each drug's stock must not be negative and must
+ * have gone down by exactly what the service reported dispensed, which must in turn match the lines
+ * of the dispensed prescriptions.
+ *
+ * The race runs twice: once with dispenses only, where the popular drug runs out and must reject
+ * the rest, and once with every dispense racing an edit of the same prescription's lines, which
+ * must either land before the dispense or be refused. The check fails with exit code 1.
+ * `mvn -f benchmarks/pom.xml verify` runs it; to run it alone:
+ *     java -cp "target/classes:$(cat classpath.txt)" com.hospital.management.benchmark.DispenseCheck
+ */
+public final class DispenseCheck {
+
+    private static final int PATIENTS = 200;
+    private static final int DOCTORS = 10;
+    private static final int THREADS = 32;
+    private static final int OPERATIONS = 1000;
+    private static final int POPULAR_STOCK = 200;
+    private static final int COMMON_STOCK = 100_000_000;
+
+    private final PrescriptionService prescriptionService;
+    private final MedicineRepository medicineRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BenchmarkContext.Dataset dataset;
+    private final List<String> failures = new ArrayList<>();
+    private final AtomicInteger medicineSequence = new AtomicInteger();
+
+    private DispenseCheck(ConfigurableApplicationContext context, BenchmarkContext.Dataset dataset) {
+        this.prescriptionService = context.getBean(PrescriptionService.class);
+        this.medicineRepository = context.getBean(MedicineRepository.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.dataset = dataset;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = BenchmarkContext.start(Collections.emptyMap());
+        boolean passed;
+        try {
+            DispenseCheck check = new DispenseCheck(context, BenchmarkContext.seed(context, PATIENTS, DOCTORS, 1));
+            check.race("dispense", POPULAR_STOCK, false);
+            check.race("dispense while editing", COMMON_STOCK, true);
+            passed = check.report();
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private void race(String scenario, int popularStock, boolean withEdits) throws Exception {
+        int sequence = medicineSequence.incrementAndGet();
+        Medicine popular = medicineRepository.save(new Medicine("Check Popular " + sequence, new BigDecimal("5.00"), popularStock));
+        Medicine common = medicineRepository.save(new Medicine("Check Common " + sequence, new BigDecimal("1.00"), COMMON_STOCK));
+        long firstPrescriptionId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM prescriptions", Long.class);
+
+        AtomicInteger remaining = new AtomicInteger(OPERATIONS);
+        AtomicLong dispensed = new AtomicLong();
+        AtomicLong popularDispensed = new AtomicLong();
+        AtomicLong commonDispensed = new AtomicLong();
+        AtomicLong outOfStock = new AtomicLong();
+        AtomicLong edited = new AtomicLong();
+        AtomicLong editsRefused = new AtomicLong();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService pharmacists = Executors.newFixedThreadPool(THREADS);
+        ExecutorService editors = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pharmacists.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (remaining.decrementAndGet() >= 0) {
+                    Prescription prescription = new Prescription();
+                    prescription.setPrescriptionDate(LocalDate.now());
+                    prescription.setDiagnosis("Stress dispense");
+                    prescription.setMedicines(popular.getMedicineName() + ", " + common.getMedicineName());
+                    prescription.setPatient(dataset.patient(random.nextInt(PATIENTS)));
+                    prescription.setDoctor(dataset.doctor(random.nextInt(DOCTORS)));
+                    prescription.replaceItems(lines(popular, common, random));
+                    Long id = prescriptionService.createPrescription(prescription).getId();
+
+                    Future<?> edit = null;
+                    if (withEdits) {
+                        edit = editors.submit(() -> {
+                            try {
+                                prescriptionService.updatePrescription(id, prescription, lines(popular, common, ThreadLocalRandom.current()));
+                                edited.incrementAndGet();
+                            } catch (IllegalStateException e) {
+                                editsRefused.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                errors.add("edit: " + e);
+                            }
+                        });
+                    }
+                    try {
+                        // The lines actually dispensed, whichever of the edit and the dispense won
+                        Prescription result = prescriptionService.dispensePrescription(id);
+                        dispensed.incrementAndGet();
+                        for (PrescriptionItem item : result.getItems()) {
+                            (item.getMedicine().getId().equals(popular.getId()) ? popularDispensed : commonDispensed)
+                                .addAndGet(item.getQuantity());
+                        }
+                    } catch (InsufficientStockException e) {
+                        outOfStock.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.add("dispense: " + e);
+                    }
+                    if (edit != null) {
+                        try {
+                            edit.get();
+                        } catch (Exception e) {
+                            errors.add("edit: " + e);
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pharmacists.shutdown();
+        editors.shutdown();
+        double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        System.out.printf("%-23s %d prescriptions in %.2f s (%.0f/s): %d dispensed, %d out of stock, %d edited, "
+                + "%d edits refused after dispense, %d errors%n", scenario, OPERATIONS, seconds, OPERATIONS / seconds,
+            dispensed.get(), outOfStock.get(), edited.get(), editsRefused.get(), errors.size());
+
+        verify(scenario, popular, popularStock, popularDispensed.get(), firstPrescriptionId);
+        verify(scenario, common, COMMON_STOCK, commonDispensed.get(), firstPrescriptionId);
+        if (!errors.isEmpty()) {
+            failures.add(scenario + ": " + errors.size() + " operations failed unexpectedly, first: " + errors.get(0));
+        }
+        if (!withEdits && outOfStock.get() == 0) {
+            failures.add(scenario + ": " + popular.getMedicineName() + " never ran out, so the stock guard was not exercised");
+        }
+    }
+
+    private void verify(String scenario, Medicine medicine, long startingStock, long dispensed, long firstPrescriptionId) {
+        Long stock = jdbcTemplate.queryForObject("SELECT stock FROM medicines WHERE id = ?", Long.class, medicine.getId());
+        Long recorded = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(i.quantity), 0) FROM prescription_items i JOIN prescriptions p ON p.id = i.prescription_id " +
+            "WHERE i.medicine_id = ? AND p.id >= ? AND p.dispensed_at IS NOT NULL", Long.class,
+            medicine.getId(), firstPrescriptionId);
+        if (stock < 0 || stock != startingStock - dispensed || recorded != dispensed) {
+            failures.add(scenario + ": stock drift for " + medicine.getMedicineName() + ": started at " + startingStock
+                + ", " + dispensed + " reported dispensed, " + recorded + " on dispensed prescriptions, " + stock + " left");
+        }
+    }
+
+    private boolean report() {
+        if (failures.isEmpty()) {
+            System.out.println("Stock matches every dispense");
+            return true;
+        }
+        failures.forEach(failure -> System.out.println("FAIL " + failure));
+        return false;
+    }
+
+    private static List<PrescriptionItem> lines(Medicine popular, Medicine common, ThreadLocalRandom random) {
+        List<PrescriptionItem> items = new ArrayList<>();
+        items.add(new PrescriptionItem(popular, 1 + random.nextInt(3)));
+        items.add(random.nextBoolean() ? 0 : 1, new PrescriptionItem(common, 1 + random.nextInt(10)));
+        return items;
+    }
+}
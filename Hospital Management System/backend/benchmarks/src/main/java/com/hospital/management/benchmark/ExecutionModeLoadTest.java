@@ -0,0 +1,262 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.HospitalManagementApplication;
+import com.hospital.management.service.MedicineSuggestService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load test of the two execution modes: Tomcat's platform-thread pool and
+ * virtual threads (spring.threads.virtual.enabled). Each mode gets a fresh server on a random
+ * port and the same burst of clients; every JDBC statement is delayed to stand in for the MySQL
+ * round trip, so DB-bound requests hold their thread while waiting.
+ *
+ * Most requests read a patient (DB-bound); the rest hit the medicine typeahead, which is served
+ * from memory. With platform threads the in-memory requests queue behind threads blocked on the
+ * connection pool; with virtual threads they should not. Run on JDK 21 to include the virtual mode:
+ *     java -cp "target/classes:$(cat classpath.txt)" com.hospital.management.benchmark.ExecutionModeLoadTest \
+ *         [clients=400] [seconds=20] [statementLatencyMs=20] [dbShare=0.8]
+ */
+public final class ExecutionModeLoadTest {
+
+    private static final int PATIENTS = 2000;
+    private static final int MEDICINES = 500;
+    private static final long WARMUP_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private ExecutionModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        long latencyMillis = args.length > 2 ? Long.parseLong(args[2]) : 20;
+        double dbShare = args.length > 3 ? Double.parseDouble(args[3]) : 0.8;
+
+        List<Result> results = new ArrayList<>();
+        results.add(run(false, clients, seconds, latencyMillis, dbShare));
+        if (Runtime.version().feature() >= 21) {
+            results.add(run(true, clients, seconds, latencyMillis, dbShare));
+        } else {
+            System.out.println("Java " + Runtime.version().feature() + ": skipping the virtual-thread mode (needs 21+)");
+        }
+
+        System.out.printf("%n%d clients, %d s, %d ms per statement, %.0f%% DB-bound%n",
+            clients, seconds, latencyMillis, dbShare * 100);
+        System.out.printf("%-19s %8s %10s %10s %10s %10s %8s%n", "mode", "requests", "req/s", "p50 ms", "p95 ms",
+            "p99 ms", "errors");
+        for (Result result : results) {
+            result.print();
+        }
+    }
+
+    private static Result run(boolean virtual, int clients, int seconds, long latencyMillis, double dbShare)
+            throws Exception {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put("server.port", "0");
+        overrides.put("spring.threads.virtual.enabled", String.valueOf(virtual));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(HospitalManagementApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .initializers(context -> context.getBeanFactory().addBeanPostProcessor(latencyInjector(latencyMillis)));
+
+        ConfigurableApplicationContext context = BenchmarkContext.start(overrides, builder);
+        try {
+            BenchmarkContext.seed(context, PATIENTS, 20, 1);
+            List<Object[]> medicines = new ArrayList<>();
+            for (int i = 0; i < MEDICINES; i++) {
+                medicines.add(new Object[] {"Paracetamol " + i, 2.5, 1000});
+            }
+            context.getBean(JdbcTemplate.class)
+                .batchUpdate("INSERT INTO medicines (medicine_name, price, stock, active) VALUES (?, ?, ?, true)", medicines);
+            context.getBean(MedicineSuggestService.class).rebuild();
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            return drive(virtual ? "virtual" : "platform", port, clients, seconds, dbShare);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result drive(String mode, int port, int clients, int seconds, double dbShare) throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        String base = "http://localhost:" + port + "/api";
+        long start = System.nanoTime();
+        long measureFrom = start + WARMUP_NANOS;
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<Recorder>> futures = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            futures.add(pool.submit(() -> {
+                Recorder recorder = new Recorder();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    boolean db = random.nextDouble() < dbShare;
+                    String path = db ? "/patients/" + (1 + random.nextInt(PATIENTS)) : "/medicines/suggest?q=para";
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                        .timeout(Duration.ofSeconds(60)).GET().build();
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    long finished = System.nanoTime();
+                    if (sent >= measureFrom && finished <= deadline) {
+                        recorder.record(db, finished - sent, status == 200);
+                    }
+                }
+                return recorder;
+            }));
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> future : futures) {
+            total.merge(future.get());
+        }
+        pool.shutdown();
+        return new Result(mode, seconds, total);
+    }
+
+    /**
+     * Delays every statement the application prepares by a fixed time, while the connection is held
+     */
+    private static BeanPostProcessor latencyInjector(long latencyMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || latencyMillis <= 0) {
+                    return bean;
+                }
+                return new DelegatingDataSource((DataSource) bean) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return delayed(super.getConnection(), latencyMillis);
+                    }
+                };
+            }
+        };
+    }
+
+    private static Connection delayed(Connection connection, long latencyMillis) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                    Thread.sleep(latencyMillis);
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+
+    private static final class Recorder {
+
+        private long[] db = new long[1024];
+        private long[] memory = new long[1024];
+        private int dbCount;
+        private int memoryCount;
+        private int dbErrors;
+        private int memoryErrors;
+
+        void record(boolean isDb, long nanos, boolean ok) {
+            if (!ok) {
+                if (isDb) {
+                    dbErrors++;
+                } else {
+                    memoryErrors++;
+                }
+                return;
+            }
+            if (isDb) {
+                if (dbCount == db.length) {
+                    db = Arrays.copyOf(db, dbCount * 2);
+                }
+                db[dbCount++] = nanos;
+            } else {
+                if (memoryCount == memory.length) {
+                    memory = Arrays.copyOf(memory, memoryCount * 2);
+                }
+                memory[memoryCount++] = nanos;
+            }
+        }
+
+        void merge(Recorder other) {
+            db = concat(db, dbCount, other.db, other.dbCount);
+            dbCount += other.dbCount;
+            memory = concat(memory, memoryCount, other.memory, other.memoryCount);
+            memoryCount += other.memoryCount;
+            dbErrors += other.dbErrors;
+            memoryErrors += other.memoryErrors;
+        }
+
+        private static long[] concat(long[] a, int aCount, long[] b, int bCount) {
+            long[] merged = Arrays.copyOf(a, aCount + bCount);
+            System.arraycopy(b, 0, merged, aCount, bCount);
+            return merged;
+        }
+    }
+
+    private static final class Result {
+
+        private final String mode;
+        private final int seconds;
+        private final Recorder recorder;
+
+        Result(String mode, int seconds, Recorder recorder) {
+            this.mode = mode;
+            this.seconds = seconds;
+            this.recorder = recorder;
+        }
+
+        void print() {
+            line(mode + "/db", recorder.db, recorder.dbCount, recorder.dbErrors);
+            line(mode + "/mem", recorder.memory, recorder.memoryCount, recorder.memoryErrors);
+        }
+
+        private void line(String label, long[] latencies, int count, int errors) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-19s %8d %10.1f %10.1f %10.1f %10.1f %8d%n", label, count, (double) count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), errors);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.hospital.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.management.dto.ApiResponse;
+import com.hospital.management.dto.AppointmentSummary;
+import com.hospital.management.dto.BillingSummary;
+import com.hospital.management.dto.RowStream;
+import com.hospital.management.model.Patient;
+import com.hospital.management.service.AppointmentService;
+import com.hospital.management.service.BillingService;
+import com.hospital.management.service.PatientService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full list reads (the unpaged endpoints) and single keyset pages. The *Response benchmarks
+ * also serialize the ApiResponse, once from a loaded list and once streamed from a cursor;
+ * run with -prof gc to compare allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListReadBenchmark extends DatasetState {
+
+    @Param({"50"})
+    public int pageSize;
+
+    private AppointmentService appointmentService;
+    private BillingService billingService;
+    private PatientService patientService;
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected void resolveBeans() {
+        appointmentService = context.getBean(AppointmentService.class);
+        billingService = context.getBean(BillingService.class);
+        patientService = context.getBean(PatientService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @Benchmark
+    public List<AppointmentSummary> allAppointments() {
+        return appointmentService.getAllAppointments();
+    }
+
+    @Benchmark
+    public List<BillingSummary> allBillings() {
+        return billingService.getAllBillings();
+    }
+
+    @Benchmark
+    public List<Patient> allPatients() {
+        return patientService.getAllPatients();
+    }
+
+    @Benchmark
+    public void allBillingsResponse() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(),
+            new ApiResponse(true, "Billings retrieved successfully", billingService.getAllBillings()));
+    }
+
+    @Benchmark
+    public void allBillingsStreamedResponse() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(),
+            new ApiResponse(true, "Billings retrieved successfully", new RowStream<>(billingService::streamAllBillings)));
+    }
+
+    @Benchmark
+    public void allPatientsResponse() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(),
+            new ApiResponse(true, "Patients retrieved successfully", patientService.getAllPatients()));
+    }
+
+    @Benchmark
+    public void allPatientsStreamedResponse() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(),
+            new ApiResponse(true, "Patients retrieved successfully", new RowStream<>(patientService::streamAllPatients)));
+    }
+
+    @Benchmark
+    public List<AppointmentSummary> appointmentPage() {
+        return appointmentService.getAppointmentsAfter(dataset.getMiddleAppointmentId(), pageSize);
+    }
+
+    @Benchmark
+    public List<Patient> patientPage() {
+        return patientService.getPatientsAfter(0L, pageSize);
+    }
+}
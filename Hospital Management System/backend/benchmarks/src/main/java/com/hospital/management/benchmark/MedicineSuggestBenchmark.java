@@ -0,0 +1,81 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.dto.MedicineSuggestion;
+import com.hospital.management.service.MedicineSuggestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead lookups against a generated catalogue of two-word medicine names, with prefixes of
+ * one to four letters as a pharmacist types them. The index is rebuilt after seeding, so every
+ * lookup is served from memory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MedicineSuggestBenchmark extends DatasetState {
+
+    private static final String[] SYLLABLES = {"am", "lo", "di", "pa", "ra", "ce", "ta", "mol", "pro", "zo",
+        "le", "met", "for", "min", "cil", "lin", "cla", "vu", "xi", "to", "sar", "tan", "ol", "in"};
+
+    @Param({"20000"})
+    public int medicines;
+
+    private MedicineSuggestService medicineSuggestService;
+    private String[] prefixes;
+
+    @Override
+    protected void resolveBeans() {
+        medicineSuggestService = context.getBean(MedicineSuggestService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < medicines; i++) {
+            String name = word(random) + " " + word(random) + " " + (i + 1);
+            names.add(name);
+            rows.add(new Object[] {name, 1.0 + random.nextInt(500), random.nextInt(10_000)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO medicines (medicine_name, price, stock, active) VALUES (?, ?, ?, true)", rows);
+        medicineSuggestService.rebuild();
+
+        prefixes = new String[4096];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = names.get(random.nextInt(names.size()));
+            String word = random.nextBoolean() ? name : name.substring(name.indexOf(' ') + 1);
+            prefixes[i] = word.substring(0, Math.min(word.length(), 1 + random.nextInt(4)));
+        }
+    }
+
+    @Benchmark
+    public List<MedicineSuggestion> suggest() {
+        return medicineSuggestService.suggest(prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)],
+            MedicineSuggestService.DEFAULT_LIMIT);
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+}
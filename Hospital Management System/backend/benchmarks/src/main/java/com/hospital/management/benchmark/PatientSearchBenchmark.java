@@ -0,0 +1,93 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.dto.PatientSearchHit;
+import com.hospital.management.service.PatientSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reception-style patient lookups: a name fragment, a misspelt surname, or the last digits of
+ * a phone number. The seeded patients are renamed to generated first and last names first, so
+ * trigram posting lists look like a real register. Run with e.g. -p patients=200000.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatientSearchBenchmark extends DatasetState {
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Vivaan", "Aditya", "Priya", "Ananya", "Diya", "Rahul",
+        "Sneha", "Karthik", "Lakshmi", "Mohammed", "Fatima", "John", "Mary", "Ravi", "Sita", "Arjun", "Meera",
+        "Suresh", "Kavya", "Vikram", "Pooja", "Rohan", "Nisha"};
+    private static final String[] LAST_NAMES = {"Sharma", "Verma", "Reddy", "Naidu", "Iyer", "Menon", "Khan",
+        "Patel", "Shah", "Gupta", "Singh", "Kumar", "Rao", "Pillai", "Nair", "Das", "Bose", "Joshi",
+        "Kulkarni", "Desai", "Mehta", "Chopra", "Fernandes", "Dsouza"};
+
+    private PatientSearchService patientSearchService;
+    private final List<String> nameQueries = new ArrayList<>();
+    private final List<String> typoQueries = new ArrayList<>();
+    private final List<String> phoneQueries = new ArrayList<>();
+
+    @Override
+    protected void resolveBeans() {
+        patientSearchService = context.getBean(PatientSearchService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Random random = new Random(7);
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM patients ORDER BY id", Long.class);
+        List<Object[]> renames = new ArrayList<>();
+        for (Long id : ids) {
+            renames.add(new Object[] {FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)], String.format("9%09d", random.nextInt(1_000_000_000)), id});
+        }
+        for (int start = 0; start < renames.size(); start += 1000) {
+            jdbcTemplate.batchUpdate("UPDATE patients SET patient_name = ?, contact_number = ? WHERE id = ?",
+                renames.subList(start, Math.min(start + 1000, renames.size())));
+        }
+        patientSearchService.rebuild();
+
+        for (int i = 0; i < 256; i++) {
+            Object[] patient = renames.get(random.nextInt(renames.size()));
+            String name = (String) patient[0];
+            String last = name.substring(name.indexOf(' ') + 1);
+            nameQueries.add(name.substring(0, 3 + random.nextInt(name.indexOf(' ') - 2)) + " " + last.substring(0, 3));
+            // Swap two adjacent letters of the surname
+            int at = 1 + random.nextInt(last.length() - 2);
+            typoQueries.add(last.substring(0, at) + last.charAt(at + 1) + last.charAt(at) + last.substring(at + 2));
+            String phone = (String) patient[1];
+            phoneQueries.add(phone.substring(phone.length() - 4 - random.nextInt(3)));
+        }
+    }
+
+    @Benchmark
+    public List<PatientSearchHit> nameFragment() {
+        return patientSearchService.search(pick(nameQueries), 0, 20);
+    }
+
+    @Benchmark
+    public List<PatientSearchHit> misspeltSurname() {
+        return patientSearchService.search(pick(typoQueries), 0, 20);
+    }
+
+    @Benchmark
+    public List<PatientSearchHit> phoneDigits() {
+        return patientSearchService.search(pick(phoneQueries), 0, 20);
+    }
+
+    private static String pick(List<String> queries) {
+        return queries.get(ThreadLocalRandom.current().nextInt(queries.size()));
+    }
+}
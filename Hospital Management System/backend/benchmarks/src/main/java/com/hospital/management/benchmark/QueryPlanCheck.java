@@ -0,0 +1,356 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.HospitalManagementApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Query-plan regression check. Calls every query method declared in the repository package against
+ * a seeded H2 database (MySQL mode), captures the SQL each call sends with its bound parameters, and
+ * runs EXPLAIN on it. The check fails (exit code 1) when a plan reads a whole table, either as a
+ * table scan or by walking an index with no condition on it.
+ *
+ * H2's planner is not MySQL's, but a query that no declared index can serve scans on both, so a
+ * dropped index or a new query without one shows up here. Queries that read every active row by
+ * design are listed in FULL_READS with the reason. `mvn -f benchmarks/pom.xml verify` runs it; to
+ * run it alone:
+ *     java -cp "target/classes:$(cat classpath.txt)" com.hospital.management.benchmark.QueryPlanCheck
+ */
+public final class QueryPlanCheck {
+
+    private static final int PATIENTS = 2000;
+    private static final int DOCTORS = 20;
+    private static final int APPOINTMENTS_PER_PATIENT = 5;
+    private static final String REPOSITORY_PACKAGE = "com.hospital.management.repository";
+
+    /**
+     * Queries allowed to read a whole table, keyed Repository.method
+     */
+    private static final Map<String, String> FULL_READS = Map.of(
+        "DashboardCounterRepository.findAllForUpdate", "locks every counter for the reconcile; one row per counter");
+
+    // H2 notes the access path of each table in a comment after it: "/* index: condition */",
+    // "/* index */" when the whole index is walked, or "/* table.tableScan */"
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\* ([^*:]+?)(: [^*]*)? \\*/");
+
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURE = new ThreadLocal<>();
+
+    private final ConfigurableApplicationContext context;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SessionFactory sessionFactory;
+    private final List<String> failures = new ArrayList<>();
+
+    private QueryPlanCheck(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.sessionFactory = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(HospitalManagementApplication.class)
+            .web(WebApplicationType.NONE)
+            .initializers(context -> context.getBeanFactory().addBeanPostProcessor(statementCapture()));
+        ConfigurableApplicationContext context = BenchmarkContext.start(new LinkedHashMap<>(), builder);
+        boolean passed;
+        try {
+            BenchmarkContext.seed(context, PATIENTS, DOCTORS, APPOINTMENTS_PER_PATIENT);
+            BenchmarkContext.seedClinicalRecords(context);
+            // Give the planner real row counts and selectivity instead of its defaults
+            context.getBean(JdbcTemplate.class).execute("ANALYZE");
+            QueryPlanCheck check = new QueryPlanCheck(context);
+            check.run();
+            passed = check.report();
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private void run() {
+        Map<String, Object> repositories = new TreeMap<>();
+        for (Object bean : context.getBeansOfType(Repository.class).values()) {
+            for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(bean)) {
+                if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    repositories.put(type.getName(), bean);
+                }
+            }
+        }
+        repositories.forEach((name, bean) -> {
+            Class<?> type;
+            try {
+                type = Class.forName(name);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+            Arrays.stream(type.getDeclaredMethods())
+                .filter(QueryPlanCheck::isQuery)
+                .sorted(Comparator.comparing(Method::getName).thenComparing(Method::getParameterCount))
+                .forEach(method -> check(type.getSimpleName() + "." + method.getName(), bean, method));
+        });
+    }
+
+    private static boolean isQuery(Method method) {
+        return !method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers())
+            && !method.isAnnotationPresent(Modifying.class);
+    }
+
+    /**
+     * Call the method in its own transaction with the caches empty, so it reaches the database,
+     * then explain every SELECT it sent
+     */
+    private void check(String name, Object repository, Method method) {
+        Object[] args;
+        try {
+            args = Arrays.stream(method.getParameters())
+                .map(parameter -> sampleArgument(parameter.getType()))
+                .toArray();
+        } catch (IllegalArgumentException e) {
+            failures.add(name + ": " + e.getMessage());
+            return;
+        }
+
+        sessionFactory.getCache().evictAllRegions();
+        List<CapturedStatement> statements = new ArrayList<>();
+        CAPTURE.set(statements);
+        try {
+            transactionTemplate.executeWithoutResult(status -> consume(invoke(repository, method, args)));
+        } catch (RuntimeException e) {
+            failures.add(name + ": call failed: " + e);
+            return;
+        } finally {
+            CAPTURE.remove();
+        }
+
+        List<CapturedStatement> selects = statements.stream()
+            .filter(statement -> statement.sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+            .collect(Collectors.toList());
+        if (selects.isEmpty()) {
+            failures.add(name + ": sent no SELECT to explain");
+            return;
+        }
+        for (CapturedStatement statement : selects) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + statement.sql, String.class, statement.parameters());
+            List<String> fullReads = fullReads(plan);
+            String reason = FULL_READS.get(name);
+            if (fullReads.isEmpty()) {
+                System.out.printf("%-70s ok     %s%n", name, accessPaths(plan));
+            } else if (reason != null) {
+                System.out.printf("%-70s full   %s (%s)%n", name, String.join(", ", fullReads), reason);
+            } else {
+                failures.add(name + ": reads all of " + String.join(", ", fullReads) + System.lineSeparator() + plan);
+            }
+        }
+    }
+
+    private boolean report() {
+        if (failures.isEmpty()) {
+            System.out.println("Every repository query is served by an index");
+            return true;
+        }
+        failures.forEach(failure -> System.out.println("FAIL " + failure));
+        return false;
+    }
+
+    /**
+     * Access paths in the plan that read a whole table: table scans and index walks with no condition
+     */
+    private static List<String> fullReads(String plan) {
+        List<String> fullReads = new ArrayList<>();
+        Matcher matcher = ACCESS_PATH.matcher(plan);
+        while (matcher.find()) {
+            String path = matcher.group(1).trim();
+            if (path.endsWith(".tableScan") || (matcher.group(2) == null && isIndex(path))) {
+                fullReads.add(path);
+            }
+        }
+        return fullReads;
+    }
+
+    private static String accessPaths(String plan) {
+        List<String> paths = new ArrayList<>();
+        Matcher matcher = ACCESS_PATH.matcher(plan);
+        while (matcher.find()) {
+            if (isIndex(matcher.group(1).trim())) {
+                paths.add(matcher.group(1).trim());
+            }
+        }
+        return String.join(", ", paths);
+    }
+
+    // Other plan comments ("direct lookup", "index sorted", "group sorted") are not access paths
+    private static boolean isIndex(String comment) {
+        return comment.indexOf('.') > 0 && !comment.contains(" ");
+    }
+
+    /**
+     * A value of the parameter's type that matches seeded rows where the type allows it
+     */
+    private static Object sampleArgument(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return true;
+        }
+        if (type == String.class) {
+            return "Cardiology";
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.now().minusDays(30);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type == Limit.class) {
+            return Limit.of(20);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(1L, 2L);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        throw new IllegalArgumentException("no sample value for a parameter of type " + type.getName());
+    }
+
+    private static Object invoke(Object repository, Method method, Object[] args) {
+        try {
+            return method.invoke(repository, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getTargetException();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        }
+    }
+
+    // Streams only query as they are read
+    private static void consume(Object result) {
+        if (result instanceof Stream) {
+            try (Stream<?> stream = (Stream<?>) result) {
+                stream.forEach(row -> { });
+            }
+        }
+    }
+
+    /**
+     * Records the SQL and bound parameters of every statement executed while a capture is open
+     */
+    private static BeanPostProcessor statementCapture() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource)) {
+                    return bean;
+                }
+                return new DelegatingDataSource((DataSource) bean) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return capturing(super.getConnection());
+                    }
+                };
+            }
+        };
+    }
+
+    private static Connection capturing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                Object result = call(connection, method, args);
+                if (method.getName().equals("prepareStatement") && args != null && args[0] instanceof String) {
+                    return capturing((PreparedStatement) result, (String) args[0]);
+                }
+                return result;
+            });
+    }
+
+    private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("setNull")) {
+                    parameters.put((Integer) args[0], null);
+                } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    parameters.put((Integer) args[0], args[1]);
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                    List<CapturedStatement> capture = CAPTURE.get();
+                    if (capture != null) {
+                        capture.add(new CapturedStatement(sql, new TreeMap<>(parameters)));
+                    }
+                }
+                return call(statement, method, args);
+            });
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static final class CapturedStatement {
+
+        private final String sql;
+        private final Map<Integer, Object> parameters;
+
+        CapturedStatement(String sql, Map<Integer, Object> parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+
+        Object[] parameters() {
+            return parameters.values().toArray();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.dto.MonthlyAppointmentCount;
+import com.hospital.management.dto.MonthlyRevenue;
+import com.hospital.management.dto.ReportBucket;
+import com.hospital.management.dto.ReportJob;
+import com.hospital.management.model.ReportGranularity;
+import com.hospital.management.model.ReportType;
+import com.hospital.management.service.ReportJobService;
+import com.hospital.management.service.ReportRollupService;
+import com.hospital.management.service.ReportsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Report reads from the rollups, plus a full rollup rebuild for comparison with
+ * aggregating the raw rows. The per-payment-mode breakdown is measured both computed
+ * directly and as a repeat job submission answered from the job result cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportsBenchmark extends DatasetState {
+
+    private ReportsService reportsService;
+    private ReportRollupService reportRollupService;
+    private ReportJobService reportJobService;
+
+    @Override
+    protected void resolveBeans() {
+        reportsService = context.getBean(ReportsService.class);
+        reportRollupService = context.getBean(ReportRollupService.class);
+        reportJobService = context.getBean(ReportJobService.class);
+    }
+
+    @Benchmark
+    public List<MonthlyAppointmentCount> monthlyAppointments() {
+        return reportsService.getMonthlyAppointmentCounts();
+    }
+
+    @Benchmark
+    public List<MonthlyRevenue> monthlyRevenue() {
+        return reportsService.getMonthlyRevenue();
+    }
+
+    @Benchmark
+    public List<ReportBucket> weeklyAppointmentsLastQuarter() {
+        LocalDate today = LocalDate.now();
+        return reportsService.getAppointmentCounts(ReportGranularity.WEEK, today.minusDays(90), today);
+    }
+
+    @Benchmark
+    public List<ReportBucket> dailyRevenueLastMonth() {
+        LocalDate today = LocalDate.now();
+        return reportsService.getRevenue(ReportGranularity.DAY, today.minusDays(30), today);
+    }
+
+    @Benchmark
+    public List<ReportBucket> monthlyRevenueByPaymentModeComputed() {
+        return reportsService.getRevenueByPaymentMode(ReportGranularity.MONTH, null, null);
+    }
+
+    @Benchmark
+    public List<ReportBucket> monthlyRevenueByPaymentModeCachedJob() {
+        ReportJob job = reportJobService.submit(ReportType.REVENUE_BY_PAYMENT_MODE, ReportGranularity.MONTH,
+            null, null, false);
+        return reportJobService.getResult(job.getId());
+    }
+
+    @Benchmark
+    public long rebuildRollups() {
+        return reportRollupService.rebuild();
+    }
+}
@@ -0,0 +1,181 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.exception.SlotUnavailableException;
+import com.hospital.management.model.Appointment;
+import com.hospital.management.model.Doctor;
+import com.hospital.management.service.AppointmentService;
+import com.hospital.management.service.SlotBookingService;
+import com.hospital.management.util.SlotTimeUtil;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Double-booking check for slot booking. Many threads race for the same few doctors' slots on a
+ * fresh day, as at morning opening, and the day is then checked in the appointments table: no
+ * slot booked twice, one row per accepted booking, no more bookings than slots.
+ *
+ * The race runs twice. First on one node, where the in-memory slot index turns away collisions.
+ * Then on two application contexts sharing one database, each with the day already in its index,
+ * so neither node sees the other's bookings and collisions reach the uk_appointments_doctor_slot
+ * unique key. That run also fails if no booking was rejected by the key. The check fails with
+ * exit code 1. `mvn -f benchmarks/pom.xml verify` runs it; to run it alone:
+ *     java -cp "target/classes:$(cat classpath.txt)" com.hospital.management.benchmark.SlotBookingCheck
+ */
+public final class SlotBookingCheck {
+
+    private static final int PATIENTS = 1000;
+    private static final int DOCTORS = 20;
+    private static final int THREADS = 32;
+    private static final int CONTENDED_DOCTORS = 4;
+    private static final int SLOTS_PER_DAY = 32;
+    private static final int ATTEMPTS = 4000;
+    private static final int FIRST_SLOT = 8 * 60;
+
+    private final BenchmarkContext.Dataset dataset;
+    private final List<String> failures = new ArrayList<>();
+    private final AtomicInteger daySequence = new AtomicInteger();
+
+    private SlotBookingCheck(BenchmarkContext.Dataset dataset) {
+        this.dataset = dataset;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // A named database that outlives its connections, so a second context can open it
+        String url = "jdbc:h2:mem:slotcheck;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("spring.datasource.url", url);
+        // Collisions on the unique key are expected here; Hibernate would log each one as an error
+        first.put("logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper", "OFF");
+        Map<String, String> second = new LinkedHashMap<>(first);
+        second.put("spring.jpa.hibernate.ddl-auto", "none");
+
+        boolean passed;
+        ConfigurableApplicationContext nodeA = BenchmarkContext.start(first);
+        try {
+            SlotBookingCheck check = new SlotBookingCheck(BenchmarkContext.seed(nodeA, PATIENTS, DOCTORS, 1));
+            check.race("one node", List.of(nodeA), false);
+            ConfigurableApplicationContext nodeB = BenchmarkContext.start(second);
+            try {
+                check.race("two nodes", List.of(nodeA, nodeB), true);
+            } finally {
+                nodeB.close();
+            }
+            passed = check.report();
+        } finally {
+            nodeA.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Book random slots of the contended doctors on a new day from every node in turn, then check the day
+     */
+    private void race(String scenario, List<ConfigurableApplicationContext> nodes, boolean expectUniqueKeyRejections)
+            throws Exception {
+        LocalDate day = LocalDate.now().plusYears(1).plusDays(daySequence.incrementAndGet());
+        List<Long> doctorIds = new ArrayList<>();
+        for (int i = 0; i < CONTENDED_DOCTORS; i++) {
+            doctorIds.add(dataset.doctor(i).getId());
+        }
+        List<AppointmentService> services = new ArrayList<>();
+        for (ConfigurableApplicationContext node : nodes) {
+            // Load the empty day into every node's index before the race
+            node.getBean(SlotBookingService.class).getTakenSlots(doctorIds, day, day);
+            services.add(node.getBean(AppointmentService.class));
+        }
+        int slotMinutes = nodes.get(0).getBean(SlotBookingService.class).getSlotMinutes();
+
+        AtomicInteger remaining = new AtomicInteger(ATTEMPTS);
+        AtomicLong accepted = new AtomicLong();
+        AtomicLong rejectedInMemory = new AtomicLong();
+        AtomicLong rejectedByKey = new AtomicLong();
+        List<String> errors = new ArrayList<>();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int attempt; (attempt = remaining.decrementAndGet()) >= 0; ) {
+                    Doctor doctor = dataset.doctor(random.nextInt(CONTENDED_DOCTORS));
+                    Appointment appointment = new Appointment();
+                    appointment.setAppointmentDate(day);
+                    appointment.setAppointmentTime(SlotTimeUtil.format(FIRST_SLOT + random.nextInt(SLOTS_PER_DAY) * slotMinutes));
+                    appointment.setReason("Stress booking");
+                    appointment.setPatient(dataset.patient(random.nextInt(PATIENTS)));
+                    appointment.setDoctor(doctor);
+                    try {
+                        services.get(attempt % services.size()).createAppointment(appointment);
+                        accepted.incrementAndGet();
+                    } catch (SlotUnavailableException e) {
+                        (e.getCause() instanceof DataIntegrityViolationException ? rejectedByKey : rejectedInMemory)
+                            .incrementAndGet();
+                    } catch (RuntimeException e) {
+                        synchronized (errors) {
+                            errors.add(e.toString());
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        JdbcTemplate jdbcTemplate = nodes.get(0).getBean(JdbcTemplate.class);
+        Integer duplicates = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM (SELECT doctor_id, booked_slot FROM appointments " +
+            "WHERE appointment_date = ? AND booked_slot IS NOT NULL " +
+            "GROUP BY doctor_id, booked_slot HAVING COUNT(*) > 1) d", Integer.class, Date.valueOf(day));
+        Long stored = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM appointments WHERE appointment_date = ? AND active = true", Long.class, Date.valueOf(day));
+        long capacity = (long) CONTENDED_DOCTORS * SLOTS_PER_DAY;
+
+        System.out.printf("%-10s %5d attempts in %.2f s (%.0f/s): %d booked of %d slots, %d rejected in memory, "
+                + "%d by the unique key, %d errors%n", scenario, ATTEMPTS, seconds, ATTEMPTS / seconds,
+            accepted.get(), capacity, rejectedInMemory.get(), rejectedByKey.get(), errors.size());
+
+        if (duplicates != 0) {
+            failures.add(scenario + ": " + duplicates + " slots booked more than once on " + day);
+        }
+        if (stored != accepted.get()) {
+            failures.add(scenario + ": " + stored + " rows stored for " + accepted.get() + " accepted bookings");
+        }
+        if (accepted.get() > capacity) {
+            failures.add(scenario + ": accepted " + accepted.get() + " bookings for " + capacity + " slots");
+        }
+        if (!errors.isEmpty()) {
+            failures.add(scenario + ": " + errors.size() + " bookings failed unexpectedly, first: " + errors.get(0));
+        }
+        if (expectUniqueKeyRejections && rejectedByKey.get() == 0) {
+            failures.add(scenario + ": no collision reached the unique key, so its mapping to SlotUnavailableException was not exercised");
+        }
+    }
+
+    private boolean report() {
+        if (failures.isEmpty()) {
+            System.out.println("No double bookings");
+            return true;
+        }
+        failures.forEach(failure -> System.out.println("FAIL " + failure));
+        return false;
+    }
+}
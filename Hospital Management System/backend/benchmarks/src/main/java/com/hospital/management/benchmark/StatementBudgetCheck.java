@@ -0,0 +1,190 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.HospitalManagementApplication;
+import com.hospital.management.config.StatementBudget;
+import com.hospital.management.util.StatementCounter;
+import jakarta.servlet.Filter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Holds every endpoint marked @StatementBudget to its budget. Each request goes through MockMvc
+ * with the application's filters against a seeded H2 database, wrapped in
+ * StatementCounter.assertAtMost. The count covers everything the request does: validation
+ * lookups, open-session-in-view loads and JSON serialization.
+ *
+ * Every request runs twice, so a budget has to hold with the second-level cache cold as well as
+ * warm. The check fails (exit code 1) when an endpoint goes over its budget or answers with an
+ * error. It also fails when an annotated endpoint has no request below. `mvn -f benchmarks/pom.xml
+ * verify` runs it; to run it alone:
+ *     java -cp "target/classes:$(cat classpath.txt)" com.hospital.management.benchmark.StatementBudgetCheck
+ */
+public final class StatementBudgetCheck {
+
+    private static final int PATIENTS = 200;
+    private static final int DOCTORS = 10;
+    private static final int APPOINTMENTS_PER_PATIENT = 5;
+
+    private final MockMvc mockMvc;
+    private final WebApplicationContext context;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final BenchmarkContext.Dataset dataset;
+    private final Set<HandlerMethod> checked = new LinkedHashSet<>();
+    private final List<String> failures = new ArrayList<>();
+    // New appointments go on their own future day, so they never collide with a booked slot
+    private final AtomicInteger nextDay = new AtomicInteger(30);
+    // Each bill needs an appointment of its own (one bill per appointment)
+    private final AtomicLong nextBilledAppointment = new AtomicLong();
+
+    private StatementBudgetCheck(ConfigurableApplicationContext context, BenchmarkContext.Dataset dataset) {
+        this.context = (WebApplicationContext) context;
+        this.dataset = dataset;
+        this.handlerMapping = context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context)
+            .addFilters(context.getBeanProvider(Filter.class).orderedStream().toArray(Filter[]::new))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put("server.port", "0");
+        overrides.put("auth.legacy-role-header.enabled", "true");
+        ConfigurableApplicationContext context = BenchmarkContext.start(overrides,
+            new SpringApplicationBuilder(HospitalManagementApplication.class).web(WebApplicationType.SERVLET));
+        boolean passed;
+        try {
+            BenchmarkContext.Dataset dataset = BenchmarkContext.seed(context, PATIENTS, DOCTORS, APPOINTMENTS_PER_PATIENT);
+            BenchmarkContext.seedClinicalRecords(context);
+            StatementBudgetCheck check = new StatementBudgetCheck(context, dataset);
+            check.run();
+            passed = check.report();
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private void run() throws Exception {
+        long patientId = dataset.patient(0).getId();
+        long doctorId = dataset.doctor(0).getId();
+        long appointmentId = dataset.getMiddleAppointmentId();
+        nextBilledAppointment.set(appointmentId + 1);
+
+        check("GET /api/appointments", () -> get("/api/appointments"));
+        check("GET /api/appointments (page)", () -> get("/api/appointments").param("limit", "50"));
+        check("POST /api/appointments", () -> json(post("/api/appointments"), String.format(
+            "{\"appointmentDate\":\"%s\",\"appointmentTime\":\"10:00 AM\",\"reason\":\"Checkup\",\"patientId\":%d,\"doctorId\":%d}",
+            futureDay(), patientId, doctorId)));
+        check("PUT /api/appointments/{id}", () -> json(put("/api/appointments/" + appointmentId), String.format(
+            "{\"appointmentDate\":\"%s\",\"appointmentTime\":\"11:00 AM\",\"reason\":\"Follow-up\",\"status\":\"SCHEDULED\","
+                + "\"patientId\":%d,\"doctorId\":%d}", futureDay(), patientId, doctorId)));
+
+        check("GET /api/billings", () -> get("/api/billings"));
+        check("GET /api/billings (page)", () -> get("/api/billings").param("limit", "50"));
+        check("POST /api/billings", () -> json(post("/api/billings"), String.format(
+            "{\"billDate\":\"%s\",\"consultationFee\":500.00,\"treatmentFee\":250.00,\"medicineFee\":120.50,"
+                + "\"paymentMode\":\"CARD\",\"paymentStatus\":\"PAID\",\"patientId\":%d,\"appointmentId\":%d}",
+            LocalDate.now(), patientId, nextBilledAppointment.getAndIncrement())));
+
+        check("GET /api/prescriptions", () -> get("/api/prescriptions"));
+        check("GET /api/prescriptions (page)", () -> get("/api/prescriptions").param("limit", "50"));
+        check("GET /api/lab-tests", () -> get("/api/lab-tests"));
+        check("GET /api/lab-tests (page)", () -> get("/api/lab-tests").param("limit", "50"));
+        check("GET /api/records/patient/{id}", () -> get("/api/records/patient/" + patientId));
+        check("GET /api/records/patient/{id} (page)", () -> get("/api/records/patient/" + patientId).param("limit", "2"));
+    }
+
+    /**
+     * Send the request twice, each time inside StatementCounter.assertAtMost with the budget of the
+     * handler it maps to
+     */
+    private void check(String label, Supplier<MockHttpServletRequestBuilder> request) throws Exception {
+        HandlerMethod handler = handlerOf(request.get());
+        StatementBudget budget = handler.getMethodAnnotation(StatementBudget.class);
+        if (budget == null) {
+            failures.add(label + ": " + handler.getShortLogMessage() + " has no @StatementBudget");
+            return;
+        }
+        checked.add(handler);
+        for (String run : new String[] {"cold", "warm"}) {
+            try (StatementCounter.Scope scope = StatementCounter.open()) {
+                MvcResult result = StatementCounter.assertAtMost(budget.value(), () -> perform(request.get()));
+                int status = result.getResponse().getStatus();
+                if (status >= 300) {
+                    failures.add(label + " (" + run + "): HTTP " + status + " " + result.getResponse().getContentAsString());
+                } else {
+                    System.out.printf("%-32s %-5s %3d statements (budget %d)%n", label, run, scope.getCount(), budget.value());
+                }
+            } catch (AssertionError e) {
+                failures.add(label + " (" + run + "): " + e.getMessage() + ", budget of " + handler.getShortLogMessage());
+            }
+        }
+    }
+
+    private boolean report() {
+        handlerMapping.getHandlerMethods().values().stream()
+            .filter(handler -> handler.hasMethodAnnotation(StatementBudget.class))
+            .filter(handler -> checked.stream().noneMatch(seen -> seen.getMethod().equals(handler.getMethod())))
+            .forEach(handler -> failures.add(handler.getShortLogMessage() + " has a @StatementBudget but no request in "
+                + StatementBudgetCheck.class.getSimpleName()));
+        if (failures.isEmpty()) {
+            System.out.println("All statement budgets hold");
+            return true;
+        }
+        failures.forEach(failure -> System.out.println("FAIL " + failure));
+        return false;
+    }
+
+    private HandlerMethod handlerOf(RequestBuilder request) throws Exception {
+        MockHttpServletRequest servletRequest = request.buildRequest(context.getServletContext());
+        HandlerExecutionChain chain = handlerMapping.getHandler(servletRequest);
+        if (chain == null || !(chain.getHandler() instanceof HandlerMethod)) {
+            throw new IllegalStateException("No controller method for " + servletRequest.getMethod() + " "
+                + servletRequest.getRequestURI());
+        }
+        return (HandlerMethod) chain.getHandler();
+    }
+
+    private MvcResult perform(RequestBuilder request) {
+        try {
+            return mockMvc.perform(request).andReturn();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private LocalDate futureDay() {
+        return LocalDate.now().plusDays(nextDay.getAndIncrement());
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body).header("X-User-Role", "ADMIN");
+    }
+}
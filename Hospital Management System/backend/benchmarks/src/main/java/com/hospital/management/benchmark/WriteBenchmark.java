@@ -0,0 +1,73 @@
+package com.hospital.management.benchmark;
+
+import com.hospital.management.model.Appointment;
+import com.hospital.management.model.Billing;
+import com.hospital.management.service.AppointmentService;
+import com.hospital.management.service.BillingService;
+import com.hospital.management.util.SlotTimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking and billing writes, including the dashboard counter and report rollup
+ * maintenance that runs in the same transaction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBenchmark extends DatasetState {
+
+    private static final int FIRST_SLOT = 8 * 60;
+    private static final int SLOTS_PER_DAY = 32;
+
+    private AppointmentService appointmentService;
+    private BillingService billingService;
+    private long sequence;
+
+    @Override
+    protected void resolveBeans() {
+        appointmentService = context.getBean(AppointmentService.class);
+        billingService = context.getBean(BillingService.class);
+    }
+
+    @Benchmark
+    public Appointment createAppointment() {
+        // Walk doctors, then the 32 quarter-hour slots from 8:00, then days, so no booking collides
+        long next = sequence++;
+        int doctorCount = dataset.doctorCount();
+        long slot = (next / doctorCount) % SLOTS_PER_DAY;
+        long day = next / ((long) doctorCount * SLOTS_PER_DAY);
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentDate(LocalDate.now().plusDays(1 + day));
+        appointment.setAppointmentTime(SlotTimeUtil.format(FIRST_SLOT + (int) slot * 15));
+        appointment.setReason("Benchmark visit");
+        appointment.setPatient(dataset.patient(next));
+        appointment.setDoctor(dataset.doctor(next));
+        return appointmentService.createAppointment(appointment);
+    }
+
+    @Benchmark
+    public Billing createBilling() {
+        long next = sequence++;
+        Billing billing = new Billing();
+        billing.setBillDate(LocalDate.now().minusDays(next % 60));
+        billing.setConsultationFee(new BigDecimal("500.00"));
+        billing.setTreatmentFee(new BigDecimal("250.00"));
+        billing.setMedicineFee(new BigDecimal("120.50"));
+        billing.setPaymentMode("CARD");
+        billing.setPaymentStatus(next % 2 == 0 ? "PAID" : "PENDING");
+        billing.setPatient(dataset.patient(next));
+        return billingService.createBilling(billing);
+    }
+}
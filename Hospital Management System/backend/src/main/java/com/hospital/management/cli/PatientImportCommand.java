@@ -0,0 +1,60 @@
+package com.hospital.management.cli;
+
+import com.hospital.management.dto.PatientImportResult;
+import com.hospital.management.service.PatientImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line bulk import, for loads too large to send over HTTP:
+ *
+ *   java -jar hospital-management-<version>-exec.jar --spring.main.web-application-type=none \
+ *        --patients.import.file=legacy-patients.csv
+ *
+ * The format follows the file extension unless patients.import.format is given. The application
+ * exits when the import finishes, with status 1 if any row was rejected.
+ */
+@Component
+@ConditionalOnProperty("patients.import.file")
+public class PatientImportCommand implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PatientImportCommand.class);
+
+    @Autowired
+    private PatientImportService patientImportService;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String file = context.getEnvironment().getRequiredProperty("patients.import.file");
+        String format = context.getEnvironment().getProperty("patients.import.format",
+            file.toLowerCase().endsWith(".json") ? PatientImportService.FORMAT_JSON : PatientImportService.FORMAT_CSV);
+
+        PatientImportResult result;
+        try (InputStream input = Files.newInputStream(Path.of(file))) {
+            result = patientImportService.importPatients(input, format);
+        }
+        for (PatientImportResult.RowError error : result.getErrors()) {
+            log.warn("Row {}: {}", error.getRow(), error.getMessage());
+        }
+        if (result.getFailedRows() > result.getErrors().size()) {
+            log.warn("... and {} more rejected rows", result.getFailedRows() - result.getErrors().size());
+        }
+
+        int exitCode = result.getFailedRows() == 0 && result.isCompleted() ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
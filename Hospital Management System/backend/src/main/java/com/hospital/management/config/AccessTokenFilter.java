@@ -0,0 +1,78 @@
+package com.hospital.management.config;
+
+import com.hospital.management.dto.AuthenticatedUser;
+import com.hospital.management.service.AccessTokenService;
+import com.hospital.management.util.RoleUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the caller from "Authorization: Bearer <token>" once per request, without touching
+ * the users table. A missing token leaves the request anonymous; a bad or expired one is
+ * rejected with 401 before it reaches a controller.
+ */
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final byte[] INVALID_TOKEN_BODY =
+        "{\"success\":false,\"message\":\"Invalid or expired access token\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AccessTokenService accessTokenService;
+    private final boolean legacyRoleHeader;
+    private final Map<String, List<GrantedAuthority>> authorities = new ConcurrentHashMap<>();
+
+    public AccessTokenFilter(AccessTokenService accessTokenService, boolean legacyRoleHeader) {
+        this.accessTokenService = accessTokenService;
+        this.legacyRoleHeader = legacyRoleHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        AuthenticatedUser user = null;
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            user = accessTokenService.verifyToken(header.substring(BEARER_PREFIX.length()).trim());
+            if (user == null) {
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getOutputStream().write(INVALID_TOKEN_BODY);
+                return;
+            }
+        } else if (legacyRoleHeader) {
+            // Transitional: trust the old client-supplied role header while clients move to tokens
+            String role = request.getHeader(RoleUtil.LEGACY_ROLE_HEADER);
+            if (role != null && !role.trim().isEmpty()) {
+                user = new AuthenticatedUser(null, role.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+
+        if (user != null) {
+            request.setAttribute(RoleUtil.PRINCIPAL_ATTRIBUTE, user);
+            SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, authoritiesOf(user.getRole())));
+        }
+        chain.doFilter(request, response);
+    }
+
+    private List<GrantedAuthority> authoritiesOf(String role) {
+        return authorities.computeIfAbsent(role, key -> List.of(new SimpleGrantedAuthority("ROLE_" + key)));
+    }
+}
@@ -0,0 +1,150 @@
+package com.hospital.management.config;
+
+import com.hospital.management.service.ArchiveService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.SqlTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Creates the "<table>_archive" copies the archiver moves inactive rows into: the live table's
+ * columns plus archived_at, a primary key on id, and no foreign keys (an archived row may point
+ * at a live one or at another archived one). Hibernate keeps adding columns to the live tables
+ * (ddl-auto), so columns missing from an existing archive table are added here too, as nullable.
+ */
+@Component
+public class ArchiveTableInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveTableInitializer.class);
+
+    // Archived rows looked up by something other than their id
+    private static final Map<String, String> LOOKUP_COLUMNS = Map.of("prescription_items", "prescription_id");
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Also makes sure Hibernate has updated the live tables first
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void initialize() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String table : ArchiveService.ARCHIVED_TABLES) {
+                String archive = table + ArchiveService.ARCHIVE_SUFFIX;
+                if (!exists(connection, table)) {
+                    log.warn("Table {} does not exist, not creating {}", table, archive);
+                } else if (!exists(connection, archive)) {
+                    create(statement, table, archive);
+                } else {
+                    addMissingColumns(statement, table, archive);
+                }
+            }
+        }
+    }
+
+    private void create(Statement statement, String table, String archive) throws SQLException {
+        StringBuilder ddl = new StringBuilder("CREATE TABLE ").append(archive).append(" (");
+        try (ResultSet rows = statement.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                ddl.append(metaData.getColumnName(i)).append(' ').append(typeOf(metaData, i));
+                if (metaData.isNullable(i) == ResultSetMetaData.columnNoNulls) {
+                    ddl.append(" NOT NULL");
+                }
+                ddl.append(", ");
+            }
+        }
+        ddl.append("archived_at ").append(timestampType()).append(" NOT NULL, PRIMARY KEY (id))");
+        statement.execute(ddl.toString());
+
+        String lookupColumn = LOOKUP_COLUMNS.get(table);
+        if (lookupColumn != null) {
+            statement.execute("CREATE INDEX idx_" + archive + "_" + lookupColumn + " ON " + archive
+                + " (" + lookupColumn + ")");
+        }
+        log.info("Created archive table {}", archive);
+    }
+
+    private void addMissingColumns(Statement statement, String table, String archive) throws SQLException {
+        Map<String, String> archiveColumns = columns(statement, archive);
+        for (Map.Entry<String, String> column : columns(statement, table).entrySet()) {
+            if (!archiveColumns.containsKey(column.getKey())) {
+                statement.execute("ALTER TABLE " + archive + " ADD COLUMN " + column.getKey() + " " + column.getValue());
+                log.info("Added column {} {} to archive table {}", column.getKey(), column.getValue(), archive);
+            }
+        }
+    }
+
+    /**
+     * What Hibernate would use for a LocalDateTime column on this database
+     */
+    private String timestampType() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getTypeConfiguration().getDdlTypeRegistry()
+            .getTypeName(SqlTypes.TIMESTAMP, sessionFactory.getJdbcServices().getDialect());
+    }
+
+    private static boolean exists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        String escape = metaData.getSearchStringEscape();
+        String pattern = escape == null ? name : name.replace("_", escape + "_");
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), pattern,
+                new String[] {"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    /**
+     * Column name (lower case) to its SQL type, in table order
+     */
+    private static Map<String, String> columns(Statement statement, String table) throws SQLException {
+        Map<String, String> columns = new LinkedHashMap<>();
+        try (ResultSet rows = statement.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                columns.put(metaData.getColumnName(i).toLowerCase(Locale.ROOT), typeOf(metaData, i));
+            }
+        }
+        return columns;
+    }
+
+    private static String typeOf(ResultSetMetaData metaData, int column) throws SQLException {
+        String name = metaData.getColumnTypeName(column);
+        switch (metaData.getColumnType(column)) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.BINARY:
+            case Types.VARBINARY:
+                return name + "(" + metaData.getPrecision(column) + ")";
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return name + "(" + metaData.getPrecision(column) + ", " + metaData.getScale(column) + ")";
+            case Types.TIMESTAMP:
+                // Fractional seconds, e.g. datetime(6)
+                return metaData.getScale(column) > 0 ? name + "(" + metaData.getScale(column) + ")" : name;
+            default:
+                return name;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hospital.management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Puts a ConcurrencyLimitedDataSource in front of the application's DataSource, sized to the
+ * connection pool. On by default in the virtual-thread execution mode.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceConcurrencyConfig.class);
+
+    // Hikari's maximumPoolSize when none is configured (reported as -1 until the pool starts)
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    // Static, so the post-processor is registered before the DataSource bean it wraps is created
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                DataSource dataSource = (DataSource) bean;
+                int permits = environment.getProperty("datasource.concurrency-limit.permits", Integer.class, 0);
+                if (permits <= 0) {
+                    permits = poolSize(dataSource);
+                }
+                int maxWaiting = environment.getProperty("datasource.concurrency-limit.max-waiting", Integer.class, 500);
+                long acquireTimeout = environment.getProperty("datasource.concurrency-limit.acquire-timeout-ms",
+                    Long.class, 30000L);
+                log.info("Limiting DataSource '{}' to {} concurrent connections, {} waiting", beanName, permits, maxWaiting);
+                return new ConcurrencyLimitedDataSource(dataSource, permits, maxWaiting, acquireTimeout);
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return poolSize > 0 ? poolSize : HIKARI_DEFAULT_POOL_SIZE;
+            }
+        } catch (SQLException e) {
+            log.warn("Cannot read the connection pool size: {}", e.getMessage());
+        }
+        throw new IllegalStateException("Set datasource.concurrency-limit.permits for a non-Hikari DataSource");
+    }
+}
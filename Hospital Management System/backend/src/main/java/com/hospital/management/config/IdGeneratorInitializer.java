@@ -0,0 +1,67 @@
+package com.hospital.management.config;
+
+import com.hospital.management.model.Patient;
+import com.hospital.management.service.ArchiveService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Entities moved from IDENTITY to table-backed ids keep their existing rows, so their generator
+ * row must start past the highest id already in use, archived rows included. Runs before the web
+ * server accepts requests.
+ */
+@Component
+@DependsOn("archiveTableInitializer")
+public class IdGeneratorInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorInitializer.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        transactionTemplate.executeWithoutResult(status ->
+            align(Patient.ID_GENERATOR, "patients", Patient.ID_ALLOCATION_SIZE));
+    }
+
+    private void align(String generator, String table, int allocationSize) {
+        long maxId = Math.max(maxId(table), maxId(table + ArchiveService.ARCHIVE_SUFFIX));
+        // The pooled optimizer hands out the block ending at the value it reads, so leave a full block of headroom
+        long floor = maxId + allocationSize + 1;
+
+        Number current = (Number) entityManager.createNativeQuery(
+                "SELECT MAX(next_val) FROM id_generators WHERE generator_name = :name")
+            .setParameter("name", generator)
+            .getSingleResult();
+        if (current == null) {
+            entityManager.createNativeQuery("INSERT INTO id_generators (generator_name, next_val) VALUES (:name, :value)")
+                .setParameter("name", generator)
+                .setParameter("value", floor)
+                .executeUpdate();
+        } else if (current.longValue() < floor) {
+            entityManager.createNativeQuery("UPDATE id_generators SET next_val = :value WHERE generator_name = :name")
+                .setParameter("name", generator)
+                .setParameter("value", floor)
+                .executeUpdate();
+        } else {
+            return;
+        }
+        log.info("Moved id generator '{}' to {} (max {}.id is {})", generator, floor, table, maxId);
+    }
+
+    private long maxId(String table) {
+        return ((Number) entityManager.createNativeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)
+            .getSingleResult()).longValue();
+    }
+}
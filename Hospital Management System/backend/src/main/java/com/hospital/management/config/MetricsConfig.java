@@ -0,0 +1,91 @@
+package com.hospital.management.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Meters on top of what Actuator records by itself (http.server.requests, spring.data.repository.invocations,
+ * hikaricp.*, hibernate.*): the handling controller method on request timings, the second-level cache
+ * hit ratio, and the connection limiter's queue when it is enabled.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String NO_HANDLER = "none";
+
+    /**
+     * Adds a handler tag (e.g. "AppointmentController#getAllAppointments") to http.server.requests
+     */
+    @Bean
+    public ServerRequestObservationConvention handlerTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(KeyValue.of("handler", handler(context)));
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, MetricsConfig::hitRatio)
+            .description("Share of second-level cache lookups that were hits, since startup")
+            .register(registry);
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitedDataSource limiter = unwrapLimiter(dataSource);
+            if (limiter == null) {
+                return;
+            }
+            Gauge.builder("datasource.concurrency.limit.waiting", limiter, ConcurrencyLimitedDataSource::getWaiting)
+                .description("Callers queued for a connection permit")
+                .register(registry);
+            Gauge.builder("datasource.concurrency.limit.available", limiter, ConcurrencyLimitedDataSource::getAvailablePermits)
+                .description("Connection permits not currently held")
+                .register(registry);
+        };
+    }
+
+    private static String handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod method = (HandlerMethod) handler;
+            return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        }
+        return NO_HANDLER;
+    }
+
+    private static double hitRatio(Statistics statistics) {
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long lookups = hits + statistics.getSecondLevelCacheMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+
+    private static ConcurrencyLimitedDataSource unwrapLimiter(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)
+                ? dataSource.unwrap(ConcurrencyLimitedDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
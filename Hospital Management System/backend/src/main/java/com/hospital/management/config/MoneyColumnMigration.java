@@ -0,0 +1,159 @@
+package com.hospital.management.config;
+
+import com.hospital.management.service.ArchiveService;
+import com.hospital.management.util.MoneyUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.sql.spi.DdlTypeRegistry;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One-off move of the money columns from DOUBLE to DECIMAL(12, 2), which rounds each stored value
+ * to the cent. ddl-auto=update changes the live columns' type by itself; this converts whatever is
+ * still floating point (archive tables, or everything when ddl-auto is off), recomputes bill totals
+ * from the rounded fees and drops the dashboard counters and report rollups so they are rebuilt
+ * from the exact amounts once the application is ready. Recorded in schema_migrations so it runs
+ * once per database.
+ */
+@Component
+@DependsOn("archiveTableInitializer")
+public class MoneyColumnMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(MoneyColumnMigration.class);
+
+    private static final String MIGRATION_ID = "money-columns-to-decimal";
+
+    private static final Map<String, List<String>> MONEY_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        MONEY_COLUMNS.put("billings", List.of("consultation_fee", "treatment_fee", "medicine_fee", "total_amount"));
+        MONEY_COLUMNS.put("medicines", List.of("price"));
+        MONEY_COLUMNS.put("lab_tests", List.of("test_fee"));
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void migrate() throws SQLException {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        TypeConfiguration typeConfiguration = sessionFactory.getTypeConfiguration();
+        DdlTypeRegistry ddlTypes = typeConfiguration.getDdlTypeRegistry();
+        String decimalType = ddlTypes.getTypeName(SqlTypes.DECIMAL, Size.precision(MoneyUtil.PRECISION, MoneyUtil.SCALE),
+            typeConfiguration.getBasicTypeForJavaType(BigDecimal.class));
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS schema_migrations (id VARCHAR(100) NOT NULL, applied_at "
+                + ddlTypes.getTypeName(SqlTypes.TIMESTAMP, dialect) + " NOT NULL, PRIMARY KEY (id))");
+            if (isApplied(connection)) {
+                return;
+            }
+
+            List<String> billingTables = new ArrayList<>();
+            for (Map.Entry<String, List<String>> entry : MONEY_COLUMNS.entrySet()) {
+                for (String table : List.of(entry.getKey(), entry.getKey() + ArchiveService.ARCHIVE_SUFFIX)) {
+                    if (convert(statement, dialect, decimalType, table, entry.getValue()) && entry.getKey().equals("billings")) {
+                        billingTables.add(table);
+                    }
+                }
+            }
+            for (String table : billingTables) {
+                int fixed = statement.executeUpdate("UPDATE " + table
+                    + " SET total_amount = consultation_fee + treatment_fee + medicine_fee"
+                    + " WHERE total_amount <> consultation_fee + treatment_fee + medicine_fee");
+                if (fixed > 0) {
+                    log.info("Recomputed {} bill totals in {} from the rounded fees", fixed, table);
+                }
+            }
+            statement.executeUpdate("DELETE FROM report_rollups");
+            statement.executeUpdate("DELETE FROM dashboard_counters");
+
+            markApplied(connection);
+            log.info("Applied migration {}: report rollups and dashboard counters are rebuilt at startup", MIGRATION_ID);
+        }
+    }
+
+    private static boolean isApplied(Connection connection) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement("SELECT 1 FROM schema_migrations WHERE id = ?")) {
+            query.setString(1, MIGRATION_ID);
+            try (ResultSet rows = query.executeQuery()) {
+                return rows.next();
+            }
+        }
+    }
+
+    private static void markApplied(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO schema_migrations (id, applied_at) VALUES (?, ?)")) {
+            insert.setString(1, MIGRATION_ID);
+            insert.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            insert.executeUpdate();
+        } catch (SQLException e) {
+            // Another node starting at the same time got there first; every step above is repeatable
+            if (!isApplied(connection)) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Change the listed columns still holding floating-point values to DECIMAL; false if the table does not exist
+     */
+    private boolean convert(Statement statement, Dialect dialect, String decimalType, String table, List<String> columns)
+            throws SQLException {
+        Map<String, Boolean> floatingColumns = new LinkedHashMap<>();
+        try (ResultSet rows = statement.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String column = metaData.getColumnName(i).toLowerCase(Locale.ROOT);
+                int type = metaData.getColumnType(i);
+                if (columns.contains(column) && (type == Types.DOUBLE || type == Types.FLOAT || type == Types.REAL)) {
+                    floatingColumns.put(column, metaData.isNullable(i) == ResultSetMetaData.columnNoNulls);
+                }
+            }
+        } catch (SQLException e) {
+            // The archive table is missing when its live table was (see ArchiveTableInitializer)
+            log.debug("Skipping money columns of {}: {}", table, e.getMessage());
+            return false;
+        }
+
+        for (Map.Entry<String, Boolean> column : floatingColumns.entrySet()) {
+            String definition = decimalType + (column.getValue() ? " not null" : "");
+            statement.execute(dialect.getAlterTableString(table) + " "
+                + dialect.getAlterColumnTypeString(column.getKey(), decimalType, definition));
+            log.info("Converted {}.{} from floating point to {}", table, column.getKey(), decimalType);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,88 @@
+package com.hospital.management.config;
+
+import com.hospital.management.util.StatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request runs. Warns when a request goes over its endpoint's
+ * budget (@StatementBudget, else sql.statement-budget.default) and, in development, reports the
+ * count in a response header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Statement-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+    @Value("${sql.statement-count.header.enabled:false}")
+    private boolean countHeader;
+
+    @Value("${sql.statement-budget.default:0}")
+    private int defaultBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            try {
+                filterChain.doFilter(request, countHeader ? new CountHeaderResponse(response, scope) : response);
+            } finally {
+                if (countHeader && !response.isCommitted()) {
+                    response.setHeader(COUNT_HEADER, String.valueOf(scope.getCount()));
+                }
+                checkBudget(request, scope.getCount());
+            }
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, int statements) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod)) {
+            return;
+        }
+        HandlerMethod method = (HandlerMethod) handler;
+        StatementBudget budget = method.getMethodAnnotation(StatementBudget.class);
+        int limit = budget != null ? budget.value() : defaultBudget;
+        if (limit > 0 && statements > limit) {
+            log.warn("{} {} ({}#{}) ran {} SQL statements, over its budget of {}", request.getMethod(),
+                request.getRequestURI(), method.getBeanType().getSimpleName(), method.getMethod().getName(),
+                statements, limit);
+        }
+    }
+
+    /**
+     * Writes the count so far when the response commits; statements run after that, while the
+     * body is streamed, are only seen by the budget check
+     */
+    private static final class CountHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final StatementCounter.Scope scope;
+
+        CountHeaderResponse(HttpServletResponse response, StatementCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            ((HttpServletResponse) getResponse()).setHeader(COUNT_HEADER, String.valueOf(scope.getCount()));
+        }
+    }
+}
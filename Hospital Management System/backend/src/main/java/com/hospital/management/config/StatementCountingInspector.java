@@ -0,0 +1,17 @@
+package com.hospital.management.config;
+
+import com.hospital.management.util.StatementCounter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Feeds StatementCounter; registered through hibernate.session_factory.statement_inspector.
+ * Hibernate calls it once per statement it prepares, so a JDBC batch counts once.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,102 @@
+package com.hospital.management.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watches the JFR jdk.VirtualThreadPinned event in the virtual-thread execution mode. A virtual
+ * thread that blocks inside a synchronized block (or native frame) keeps its carrier thread, so
+ * a few of them can stall every request; each pinning site is logged with its stack the first
+ * time and then every 100th occurrence.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+    private static final long LOG_EVERY = 100;
+
+    @Value("${virtual-threads.pinning-monitor.threshold-ms:20}")
+    private long thresholdMillis;
+
+    private final Map<String, AtomicLong> pinnedBySite = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("spring.threads.virtual.enabled is set but this JVM is Java {}; requests run on platform threads",
+                Runtime.version().feature());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Monitoring virtual threads pinned for more than {} ms", thresholdMillis);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * Pinned-event counts keyed by the innermost application frame (or innermost frame)
+     */
+    public Map<String, Long> getPinnedCounts() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        pinnedBySite.forEach((site, count) -> counts.put(site, count.get()));
+        return counts;
+    }
+
+    private void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = siteOf(frames);
+        long count = pinnedBySite.computeIfAbsent(site, key -> new AtomicLong()).incrementAndGet();
+        if (count == 1 || count % LOG_EVERY == 0) {
+            StringBuilder stack = new StringBuilder();
+            for (int i = 0; i < frames.size() && i < LOGGED_FRAMES; i++) {
+                stack.append("\n\tat ").append(describe(frames.get(i)));
+            }
+            log.warn("Virtual thread pinned to its carrier for {} ms at {} ({} times so far){}",
+                event.getDuration().toMillis(), site, count, stack);
+        }
+    }
+
+    private static String siteOf(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith("com.hospital.")) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
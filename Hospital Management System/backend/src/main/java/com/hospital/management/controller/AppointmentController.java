@@ -1,34 +1,61 @@
 package com.hospital.management.controller;
 
+import com.hospital.management.config.StatementBudget;
 import com.hospital.management.dto.ApiResponse;
+import com.hospital.management.dto.AppointmentSummary;
 import com.hospital.management.dto.AppointmentRequest;
+import com.hospital.management.dto.RowStream;
+import com.hospital.management.exception.SlotUnavailableException;
 import com.hospital.management.model.Appointment;
 import com.hospital.management.model.Patient;
 import com.hospital.management.model.Doctor;
 import com.hospital.management.repository.PatientRepository;
 import com.hospital.management.repository.DoctorRepository;
 import com.hospital.management.service.AppointmentService;
+import com.hospital.management.service.ArchiveService;
+import com.hospital.management.util.CursorUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/appointments")
 public class AppointmentController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     @Autowired
     private AppointmentService appointmentService;
 
+    @Autowired
+    private ArchiveService archiveService;
+
     @Autowired
     private PatientRepository patientRepository;
 
     @Autowired
     private DoctorRepository doctorRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
+    @StatementBudget(8)
     public ResponseEntity<ApiResponse> createAppointment(@RequestBody AppointmentRequest request) {
         try {
             // Validate required fields
@@ -80,6 +107,12 @@ public class AppointmentController {
             return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponse(true, "Appointment created successfully", createdAppointment));
 
+        } catch (SlotUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to create appointment: " + e.getMessage()));
@@ -87,20 +120,67 @@ public class AppointmentController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse> getAllAppointments() {
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse> getAllAppointments(@RequestParam(required = false) Long after,
+                                                          @RequestParam(required = false) Integer limit,
+                                                          @RequestParam(required = false) String cursor) {
         try {
-            List<Appointment> appointments = appointmentService.getAllAppointments();
-            return ResponseEntity.ok(new ApiResponse(true, "Appointments retrieved successfully", appointments));
+            if (CursorUtil.isPaged(after, limit, cursor)) {
+                int pageSize = CursorUtil.resolveLimit(limit);
+                List<AppointmentSummary> page = appointmentService.getAppointmentsAfter(CursorUtil.resolveAfterId(after, cursor), pageSize + 1);
+                return ResponseEntity.ok(CursorUtil.page("Appointments retrieved successfully", page, pageSize,
+                    appointment -> CursorUtil.encode(appointment.getId())));
+            }
+
+            // Unpaged: rows are written out one at a time from a database cursor, never held as one list
+            return ResponseEntity.ok(new ApiResponse(true, "Appointments retrieved successfully",
+                new RowStream<>(appointmentService::streamAllAppointments)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to retrieve appointments: " + e.getMessage()));
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAppointments(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            ApiResponse error = new ApiResponse(false, "'from' must not be after 'to'");
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> objectMapper.writeValue(outputStream, error));
+        }
+
+        // One JSON document per line, written straight from the database cursor
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+            long[] written = {0};
+            appointmentService.exportAppointments(from, to, appointment -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(appointment));
+                    out.write('\n');
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> getAppointmentById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getAppointmentById(@PathVariable Long id,
+                                                          @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
-            Appointment appointment = appointmentService.getAppointmentById(id);
+            Appointment appointment = includeArchived
+                ? archiveService.findIncludingArchived(Appointment.class, id)
+                : appointmentService.getAppointmentById(id);
             
             if (appointment == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -115,6 +195,7 @@ public class AppointmentController {
     }
 
     @PutMapping("/{id}")
+    @StatementBudget(13)
     public ResponseEntity<ApiResponse> updateAppointment(@PathVariable Long id, @RequestBody AppointmentRequest request) {
         try {
             // Validate required fields
@@ -183,6 +264,12 @@ public class AppointmentController {
             }
             
             return ResponseEntity.ok(new ApiResponse(true, "Appointment updated successfully", updatedAppointment));
+        } catch (SlotUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to update appointment: " + e.getMessage()));
@@ -79,20 +79,13 @@ public class AuthController {
             }
 
             // Attempt login
-            User user = userService.loginUser(request.getEmail(), request.getPassword());
+            LoginResponse response = userService.loginUser(request.getEmail(), request.getPassword());
 
-            if (user == null) {
+            if (response == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new ApiResponse(false, "Invalid email or password"));
             }
 
-            LoginResponse response = new LoginResponse(
-                user.getId(),
-                user.getName(),
-                user.getEmail(),
-                user.getRole()
-            );
-
             return ResponseEntity.ok(new ApiResponse(true, "Login successful", response));
 
         } catch (Exception e) {
@@ -1,13 +1,19 @@
 package com.hospital.management.controller;
 
+import com.hospital.management.config.StatementBudget;
 import com.hospital.management.dto.ApiResponse;
+import com.hospital.management.dto.BillingSummary;
 import com.hospital.management.dto.BillingRequest;
+import com.hospital.management.dto.RowStream;
 import com.hospital.management.model.Billing;
 import com.hospital.management.model.Patient;
 import com.hospital.management.model.Appointment;
 import com.hospital.management.repository.PatientRepository;
 import com.hospital.management.repository.AppointmentRepository;
+import com.hospital.management.service.ArchiveService;
 import com.hospital.management.service.BillingService;
+import com.hospital.management.util.CursorUtil;
+import com.hospital.management.util.MoneyUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +28,9 @@ public class BillingController {
     @Autowired
     private BillingService billingService;
 
+    @Autowired
+    private ArchiveService archiveService;
+
     @Autowired
     private PatientRepository patientRepository;
 
@@ -29,6 +38,7 @@ public class BillingController {
     private AppointmentRepository appointmentRepository;
 
     @PostMapping
+    @StatementBudget(10)
     public ResponseEntity<ApiResponse> createBilling(@RequestBody BillingRequest request) {
         try {
             // Validate required fields
@@ -42,6 +52,14 @@ public class BillingController {
                     .body(new ApiResponse(false, "Bill date, fees, payment mode, and patient ID are required"));
             }
 
+            // Validate fees fit the money columns
+            if (!MoneyUtil.fitsColumn(request.getConsultationFee()) ||
+                !MoneyUtil.fitsColumn(request.getTreatmentFee()) ||
+                !MoneyUtil.fitsColumn(request.getMedicineFee())) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Fees can have at most 2 decimal places"));
+            }
+
             // Validate payment mode
             if (!request.getPaymentMode().equals("CASH") && 
                 !request.getPaymentMode().equals("CARD") && 
@@ -81,9 +99,9 @@ public class BillingController {
             // Create billing
             Billing billing = new Billing();
             billing.setBillDate(request.getBillDate());
-            billing.setConsultationFee(request.getConsultationFee());
-            billing.setTreatmentFee(request.getTreatmentFee());
-            billing.setMedicineFee(request.getMedicineFee());
+            billing.setConsultationFee(MoneyUtil.normalize(request.getConsultationFee()));
+            billing.setTreatmentFee(MoneyUtil.normalize(request.getTreatmentFee()));
+            billing.setMedicineFee(MoneyUtil.normalize(request.getMedicineFee()));
             billing.setPaymentMode(request.getPaymentMode());
             billing.setPaymentStatus(paymentStatus);
             billing.setPatient(patient);
@@ -100,10 +118,24 @@ public class BillingController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse> getAllBillings() {
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse> getAllBillings(@RequestParam(required = false) Long after,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) String cursor) {
         try {
-            List<Billing> billings = billingService.getAllBillings();
-            return ResponseEntity.ok(new ApiResponse(true, "Billings retrieved successfully", billings));
+            if (CursorUtil.isPaged(after, limit, cursor)) {
+                int pageSize = CursorUtil.resolveLimit(limit);
+                List<BillingSummary> page = billingService.getBillingsAfter(CursorUtil.resolveAfterId(after, cursor), pageSize + 1);
+                return ResponseEntity.ok(CursorUtil.page("Billings retrieved successfully", page, pageSize,
+                    billing -> CursorUtil.encode(billing.getId())));
+            }
+
+            // Unpaged: rows are written out one at a time from a database cursor, never held as one list
+            return ResponseEntity.ok(new ApiResponse(true, "Billings retrieved successfully",
+                new RowStream<>(billingService::streamAllBillings)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to retrieve billings: " + e.getMessage()));
@@ -111,9 +143,12 @@ public class BillingController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> getBillingById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getBillingById(@PathVariable Long id,
+                                                      @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
-            Billing billing = billingService.getBillingById(id);
+            Billing billing = includeArchived
+                ? archiveService.findIncludingArchived(Billing.class, id)
+                : billingService.getBillingById(id);
             
             if (billing == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -140,6 +175,14 @@ public class BillingController {
                     .body(new ApiResponse(false, "Bill date, fees, and payment mode are required"));
             }
 
+            // Validate fees fit the money columns
+            if (!MoneyUtil.fitsColumn(request.getConsultationFee()) ||
+                !MoneyUtil.fitsColumn(request.getTreatmentFee()) ||
+                !MoneyUtil.fitsColumn(request.getMedicineFee())) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Fees can have at most 2 decimal places"));
+            }
+
             // Validate payment mode
             if (!request.getPaymentMode().equals("CASH") && 
                 !request.getPaymentMode().equals("CARD") && 
@@ -166,9 +209,9 @@ public class BillingController {
             // Update billing
             Billing billing = new Billing();
             billing.setBillDate(request.getBillDate());
-            billing.setConsultationFee(request.getConsultationFee());
-            billing.setTreatmentFee(request.getTreatmentFee());
-            billing.setMedicineFee(request.getMedicineFee());
+            billing.setConsultationFee(MoneyUtil.normalize(request.getConsultationFee()));
+            billing.setTreatmentFee(MoneyUtil.normalize(request.getTreatmentFee()));
+            billing.setMedicineFee(MoneyUtil.normalize(request.getMedicineFee()));
             billing.setPaymentMode(request.getPaymentMode());
             billing.setPaymentStatus(paymentStatus != null && !paymentStatus.trim().isEmpty() 
                 ? paymentStatus : existingBilling.getPaymentStatus());
@@ -0,0 +1,54 @@
+package com.hospital.management.controller;
+
+import com.hospital.management.dto.ApiResponse;
+import com.hospital.management.dto.CacheStats;
+import com.hospital.management.service.CacheStatsService;
+import com.hospital.management.util.RoleUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse> getCacheStats(HttpServletRequest request) {
+        // Role-based access control: Only ADMIN can view cache statistics
+        if (!RoleUtil.isAdmin(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponse(false, "Access denied. Only ADMIN can view cache statistics."));
+        }
+        try {
+            CacheStats stats = cacheStatsService.getStats();
+            return ResponseEntity.ok(new ApiResponse(true, "Cache statistics retrieved successfully", stats));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to retrieve cache statistics: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/evict")
+    public ResponseEntity<ApiResponse> evictCaches(HttpServletRequest request) {
+        // Role-based access control: Only ADMIN can clear the caches
+        if (!RoleUtil.isAdmin(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponse(false, "Access denied. Only ADMIN can clear the caches."));
+        }
+        try {
+            cacheStatsService.evictAll();
+            return ResponseEntity.ok(new ApiResponse(true, "Caches cleared successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to clear caches: " + e.getMessage()));
+        }
+    }
+}
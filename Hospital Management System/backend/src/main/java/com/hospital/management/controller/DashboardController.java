@@ -2,13 +2,20 @@ package com.hospital.management.controller;
 
 import com.hospital.management.dto.ApiResponse;
 import com.hospital.management.dto.DashboardSummary;
+import com.hospital.management.service.DashboardCounterService;
 import com.hospital.management.service.DashboardService;
+import com.hospital.management.util.RoleUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/dashboard")
 public class DashboardController {
@@ -16,6 +23,9 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse> getDashboardSummary() {
         try {
@@ -25,5 +35,23 @@ public class DashboardController {
             return ResponseEntity.ok(new ApiResponse(false, "Failed to retrieve dashboard summary: " + e.getMessage(), null));
         }
     }
-}
 
+    @PostMapping("/counters/reconcile")
+    public ResponseEntity<ApiResponse> reconcileCounters(HttpServletRequest request) {
+        // Role-based access control: Only ADMIN can trigger a recount
+        if (!RoleUtil.isAdmin(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponse(false, "Access denied. Only ADMIN can reconcile dashboard counters."));
+        }
+        try {
+            Map<String, Long> drift = dashboardCounterService.reconcile();
+            String message = drift.isEmpty()
+                ? "Dashboard counters are consistent"
+                : "Dashboard counter drift corrected";
+            return ResponseEntity.ok(new ApiResponse(true, message, drift));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to reconcile dashboard counters: " + e.getMessage()));
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.hospital.management.controller;
 
 import com.hospital.management.dto.ApiResponse;
+import com.hospital.management.dto.DoctorAvailability;
 import com.hospital.management.model.Doctor;
+import com.hospital.management.service.ArchiveService;
+import com.hospital.management.service.AvailabilityService;
+import com.hospital.management.service.CollectionVersionService;
 import com.hospital.management.service.DoctorService;
+import com.hospital.management.util.CursorUtil;
+import com.hospital.management.util.EtagUtil;
 import com.hospital.management.util.RoleUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,9 +26,21 @@ import java.util.Optional;
 @RequestMapping("/api/doctors")
 public class DoctorController {
 
+    // Window used when the caller gives no end date
+    private static final int DEFAULT_AVAILABILITY_DAYS = 7;
+
     @Autowired
     private DoctorService doctorService;
 
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
     @PostMapping
     public ResponseEntity<ApiResponse> createDoctor(@RequestBody Doctor doctor, HttpServletRequest request) {
         // Role-based access control: Only ADMIN can create doctors
@@ -56,20 +77,90 @@ public class DoctorController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse> getAllDoctors() {
+    public ResponseEntity<ApiResponse> getAllDoctors(@RequestParam(required = false) Long after,
+                                                     @RequestParam(required = false) Integer limit,
+                                                     @RequestParam(required = false) String cursor,
+                                                     WebRequest webRequest) {
         try {
+            // Read the version before the rows, so a concurrent write can only make the ETag older than the body
+            String etag = collectionVersionService.getEtag(CollectionVersionService.DOCTORS);
+            ResponseEntity<ApiResponse> notModified = EtagUtil.notModified(webRequest, etag);
+            if (notModified != null) {
+                return notModified;
+            }
+
+            if (CursorUtil.isPaged(after, limit, cursor)) {
+                int pageSize = CursorUtil.resolveLimit(limit);
+                List<Doctor> page = doctorService.getDoctorsAfter(CursorUtil.resolveAfterId(after, cursor), pageSize + 1);
+                return EtagUtil.ok(CursorUtil.page("Doctors retrieved successfully", page, pageSize,
+                    doctor -> CursorUtil.encode(doctor.getId())), etag);
+            }
+
             List<Doctor> doctors = doctorService.getAllDoctors();
-            return ResponseEntity.ok(new ApiResponse(true, "Doctors retrieved successfully", doctors));
+            return EtagUtil.ok(new ApiResponse(true, "Doctors retrieved successfully", doctors), etag);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to retrieve doctors: " + e.getMessage()));
         }
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse> getAvailabilityBySpecialization(
+            @RequestParam String specialization,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            // Validate specialization
+            if (specialization.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Specialization is required"));
+            }
+            LocalDate start = from != null ? from : LocalDate.now();
+            LocalDate end = to != null ? to : start.plusDays(DEFAULT_AVAILABILITY_DAYS - 1);
+            List<DoctorAvailability> availability = availabilityService.getAvailabilityBySpecialization(specialization, start, end);
+            return ResponseEntity.ok(new ApiResponse(true, "Availability retrieved successfully", availability));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to retrieve availability: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<ApiResponse> getDoctorAvailability(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate start = from != null ? from : LocalDate.now();
+            LocalDate end = to != null ? to : start.plusDays(DEFAULT_AVAILABILITY_DAYS - 1);
+            DoctorAvailability availability = availabilityService.getDoctorAvailability(id, start, end);
+            if (availability == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse(false, "Doctor not found or inactive"));
+            }
+            return ResponseEntity.ok(new ApiResponse(true, "Availability retrieved successfully", availability));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to retrieve availability: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> getDoctorById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getDoctorById(@PathVariable Long id,
+                                                     @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
-            Optional<Doctor> doctor = doctorService.getDoctorById(id);
+            Optional<Doctor> doctor = includeArchived
+                ? Optional.ofNullable(archiveService.findIncludingArchived(Doctor.class, id))
+                : doctorService.getDoctorById(id);
             if (doctor.isPresent()) {
                 return ResponseEntity.ok(new ApiResponse(true, "Doctor retrieved successfully", doctor.get()));
             } else {
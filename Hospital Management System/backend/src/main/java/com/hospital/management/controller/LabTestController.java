@@ -1,11 +1,17 @@
 package com.hospital.management.controller;
 
+import com.hospital.management.config.StatementBudget;
 import com.hospital.management.dto.ApiResponse;
+import com.hospital.management.dto.LabTestSummary;
 import com.hospital.management.dto.LabTestRequest;
+import com.hospital.management.dto.RowStream;
 import com.hospital.management.model.LabTest;
 import com.hospital.management.model.Patient;
 import com.hospital.management.repository.PatientRepository;
+import com.hospital.management.service.ArchiveService;
 import com.hospital.management.service.LabTestService;
+import com.hospital.management.util.CursorUtil;
+import com.hospital.management.util.MoneyUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +27,9 @@ public class LabTestController {
     @Autowired
     private LabTestService labTestService;
 
+    @Autowired
+    private ArchiveService archiveService;
+
     @Autowired
     private PatientRepository patientRepository;
 
@@ -37,10 +46,14 @@ public class LabTestController {
             }
 
             // Validate test fee is non-negative
-            if (request.getTestFee() < 0) {
+            if (request.getTestFee().signum() < 0) {
                 return ResponseEntity.badRequest()
                     .body(new ApiResponse(false, "Test fee cannot be negative"));
             }
+            if (!MoneyUtil.fitsColumn(request.getTestFee())) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Test fee can have at most 2 decimal places"));
+            }
 
             // Validate status
             if (!isValidStatus(request.getStatus())) {
@@ -58,7 +71,7 @@ public class LabTestController {
             // Create lab test
             LabTest labTest = new LabTest();
             labTest.setTestName(request.getTestName().trim());
-            labTest.setTestFee(request.getTestFee());
+            labTest.setTestFee(MoneyUtil.normalize(request.getTestFee()));
             labTest.setResult(request.getResult());
             labTest.setStatus(request.getStatus());
             labTest.setPatient(patientOptional.get());
@@ -74,10 +87,24 @@ public class LabTestController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse> getAllLabTests() {
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse> getAllLabTests(@RequestParam(required = false) Long after,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) String cursor) {
         try {
-            List<LabTest> labTests = labTestService.getAllLabTests();
-            return ResponseEntity.ok(new ApiResponse(true, "Lab tests fetched successfully", labTests));
+            if (CursorUtil.isPaged(after, limit, cursor)) {
+                int pageSize = CursorUtil.resolveLimit(limit);
+                List<LabTestSummary> page = labTestService.getLabTestsAfter(CursorUtil.resolveAfterId(after, cursor), pageSize + 1);
+                return ResponseEntity.ok(CursorUtil.page("Lab tests fetched successfully", page, pageSize,
+                    labTest -> CursorUtil.encode(labTest.getId())));
+            }
+
+            // Unpaged: rows are written out one at a time from a database cursor, never held as one list
+            return ResponseEntity.ok(new ApiResponse(true, "Lab tests fetched successfully",
+                new RowStream<>(labTestService::streamAllLabTests)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to fetch lab tests: " + e.getMessage()));
@@ -85,9 +112,12 @@ public class LabTestController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> getLabTestById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getLabTestById(@PathVariable Long id,
+                                                      @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
-            Optional<LabTest> labTest = labTestService.getLabTestById(id);
+            Optional<LabTest> labTest = includeArchived
+                ? Optional.ofNullable(archiveService.findIncludingArchived(LabTest.class, id))
+                : labTestService.getLabTestById(id);
             if (labTest.isPresent()) {
                 return ResponseEntity.ok(new ApiResponse(true, "Lab test fetched successfully", labTest.get()));
             } else {
@@ -116,11 +146,15 @@ public class LabTestController {
                 existingLabTest.setTestName(request.getTestName().trim());
             }
             if (request.getTestFee() != null) {
-                if (request.getTestFee() < 0) {
+                if (request.getTestFee().signum() < 0) {
                     return ResponseEntity.badRequest()
                         .body(new ApiResponse(false, "Test fee cannot be negative"));
                 }
-                existingLabTest.setTestFee(request.getTestFee());
+                if (!MoneyUtil.fitsColumn(request.getTestFee())) {
+                    return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Test fee can have at most 2 decimal places"));
+                }
+                existingLabTest.setTestFee(MoneyUtil.normalize(request.getTestFee()));
             }
             if (request.getResult() != null) {
                 existingLabTest.setResult(request.getResult());
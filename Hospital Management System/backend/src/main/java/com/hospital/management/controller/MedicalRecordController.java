@@ -1,16 +1,20 @@
 package com.hospital.management.controller;
 
+import com.hospital.management.config.StatementBudget;
 import com.hospital.management.dto.ApiResponse;
 import com.hospital.management.dto.MedicalRecordRequest;
 import com.hospital.management.model.MedicalRecord;
 import com.hospital.management.model.Patient;
 import com.hospital.management.repository.PatientRepository;
 import com.hospital.management.service.MedicalRecordService;
+import com.hospital.management.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,7 +67,10 @@ public class MedicalRecordController {
     }
 
     @GetMapping("/patient/{patientId}")
-    public ResponseEntity<ApiResponse> getMedicalRecordsByPatientId(@PathVariable Long patientId) {
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse> getMedicalRecordsByPatientId(@PathVariable Long patientId,
+                                                                    @RequestParam(required = false) Integer limit,
+                                                                    @RequestParam(required = false) String cursor) {
         try {
             // Validate patient exists
             Optional<Patient> patientOptional = patientRepository.findById(patientId);
@@ -72,8 +79,34 @@ public class MedicalRecordController {
                     .body(new ApiResponse(false, "Patient not found or inactive"));
             }
 
+            if (CursorUtil.isPaged(null, limit, cursor)) {
+                // Records are listed newest first, so the cursor carries (visitDate, id) of the last row
+                LocalDate beforeVisitDate = null;
+                Long beforeId = null;
+                if (cursor != null && !cursor.trim().isEmpty()) {
+                    String[] keys = CursorUtil.decode(cursor);
+                    if (keys.length != 2) {
+                        throw new IllegalArgumentException("Invalid cursor");
+                    }
+                    try {
+                        beforeVisitDate = LocalDate.parse(keys[0]);
+                        beforeId = Long.parseLong(keys[1]);
+                    } catch (DateTimeParseException | NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid cursor");
+                    }
+                }
+                int pageSize = CursorUtil.resolveLimit(limit);
+                List<MedicalRecord> page = medicalRecordService.getMedicalRecordsPage(
+                    patientId, beforeVisitDate, beforeId, pageSize + 1);
+                return ResponseEntity.ok(CursorUtil.page("Medical records fetched successfully", page, pageSize,
+                    record -> CursorUtil.encode(record.getVisitDate(), record.getId())));
+            }
+
             List<MedicalRecord> records = medicalRecordService.getMedicalRecordsByPatientId(patientId);
             return ResponseEntity.ok(new ApiResponse(true, "Medical records fetched successfully", records));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to fetch medical records: " + e.getMessage()));
@@ -2,13 +2,21 @@ package com.hospital.management.controller;
 
 import com.hospital.management.dto.ApiResponse;
 import com.hospital.management.dto.MedicineRequest;
+import com.hospital.management.dto.MedicineSuggestion;
 import com.hospital.management.model.Medicine;
 import com.hospital.management.repository.MedicineRepository;
+import com.hospital.management.service.ArchiveService;
+import com.hospital.management.service.CollectionVersionService;
 import com.hospital.management.service.MedicineService;
+import com.hospital.management.service.MedicineSuggestService;
+import com.hospital.management.util.CursorUtil;
+import com.hospital.management.util.EtagUtil;
+import com.hospital.management.util.MoneyUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,9 +28,18 @@ public class MedicineController {
     @Autowired
     private MedicineService medicineService;
 
+    @Autowired
+    private ArchiveService archiveService;
+
     @Autowired
     private MedicineRepository medicineRepository;
 
+    @Autowired
+    private MedicineSuggestService medicineSuggestService;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
     @PostMapping
     public ResponseEntity<ApiResponse> createMedicine(@RequestBody MedicineRequest request) {
         try {
@@ -35,10 +52,14 @@ public class MedicineController {
             }
 
             // Validate price is non-negative
-            if (request.getPrice() < 0) {
+            if (request.getPrice().signum() < 0) {
                 return ResponseEntity.badRequest()
                     .body(new ApiResponse(false, "Price cannot be negative"));
             }
+            if (!MoneyUtil.fitsColumn(request.getPrice())) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Price can have at most 2 decimal places"));
+            }
 
             // Validate stock is non-negative
             if (request.getStock() < 0) {
@@ -58,7 +79,7 @@ public class MedicineController {
             // Create medicine
             Medicine medicine = new Medicine();
             medicine.setMedicineName(request.getMedicineName().trim());
-            medicine.setPrice(request.getPrice());
+            medicine.setPrice(MoneyUtil.normalize(request.getPrice()));
             medicine.setStock(request.getStock());
 
             Medicine createdMedicine = medicineService.createMedicine(medicine);
@@ -72,20 +93,66 @@ public class MedicineController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse> getAllMedicines() {
+    public ResponseEntity<ApiResponse> getAllMedicines(@RequestParam(required = false) Long after,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       @RequestParam(required = false) String cursor,
+                                                       WebRequest webRequest) {
         try {
+            // Read the version before the rows, so a concurrent write can only make the ETag older than the body
+            String etag = collectionVersionService.getEtag(CollectionVersionService.MEDICINES);
+            ResponseEntity<ApiResponse> notModified = EtagUtil.notModified(webRequest, etag);
+            if (notModified != null) {
+                return notModified;
+            }
+
+            if (CursorUtil.isPaged(after, limit, cursor)) {
+                int pageSize = CursorUtil.resolveLimit(limit);
+                List<Medicine> page = medicineService.getMedicinesAfter(CursorUtil.resolveAfterId(after, cursor), pageSize + 1);
+                return EtagUtil.ok(CursorUtil.page("Medicines fetched successfully", page, pageSize,
+                    medicine -> CursorUtil.encode(medicine.getId())), etag);
+            }
+
             List<Medicine> medicines = medicineService.getAllMedicines();
-            return ResponseEntity.ok(new ApiResponse(true, "Medicines fetched successfully", medicines));
+            return EtagUtil.ok(new ApiResponse(true, "Medicines fetched successfully", medicines), etag);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to fetch medicines: " + e.getMessage()));
         }
     }
 
+    /**
+     * Typeahead over active medicine names, best stocked first; served from memory
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse> suggestMedicines(@RequestParam(required = false) String q,
+                                                        @RequestParam(required = false) Integer limit) {
+        try {
+            // Validate query
+            if (q == null || q.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Query parameter 'q' is required"));
+            }
+
+            int resolvedLimit = limit == null || limit <= 0 ? MedicineSuggestService.DEFAULT_LIMIT
+                : Math.min(limit, MedicineSuggestService.MAX_LIMIT);
+            List<MedicineSuggestion> suggestions = medicineSuggestService.suggest(q, resolvedLimit);
+            return ResponseEntity.ok(new ApiResponse(true, "Medicine suggestions fetched successfully", suggestions));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to fetch medicine suggestions: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> getMedicineById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getMedicineById(@PathVariable Long id,
+                                                       @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
-            Optional<Medicine> medicine = medicineService.getMedicineById(id);
+            Optional<Medicine> medicine = includeArchived
+                ? Optional.ofNullable(archiveService.findIncludingArchived(Medicine.class, id))
+                : medicineService.getMedicineById(id);
             if (medicine.isPresent()) {
                 return ResponseEntity.ok(new ApiResponse(true, "Medicine fetched successfully", medicine.get()));
             } else {
@@ -123,11 +190,15 @@ public class MedicineController {
             }
 
             if (request.getPrice() != null) {
-                if (request.getPrice() < 0) {
+                if (request.getPrice().signum() < 0) {
                     return ResponseEntity.badRequest()
                         .body(new ApiResponse(false, "Price cannot be negative"));
                 }
-                existingMedicine.setPrice(request.getPrice());
+                if (!MoneyUtil.fitsColumn(request.getPrice())) {
+                    return ResponseEntity.badRequest()
+                        .body(new ApiResponse(false, "Price can have at most 2 decimal places"));
+                }
+                existingMedicine.setPrice(MoneyUtil.normalize(request.getPrice()));
             }
 
             if (request.getStock() != null) {
@@ -1,12 +1,24 @@
 package com.hospital.management.controller;
 
 import com.hospital.management.dto.ApiResponse;
+import com.hospital.management.dto.PatientImportResult;
+import com.hospital.management.dto.PatientSearchHit;
+import com.hospital.management.dto.RowStream;
 import com.hospital.management.model.Patient;
+import com.hospital.management.service.ArchiveService;
+import com.hospital.management.service.CollectionVersionService;
+import com.hospital.management.service.PatientImportService;
+import com.hospital.management.service.PatientSearchService;
 import com.hospital.management.service.PatientService;
+import com.hospital.management.util.CursorUtil;
+import com.hospital.management.util.EtagUtil;
+import com.hospital.management.util.RoleUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,6 +29,18 @@ public class PatientController {
     @Autowired
     private PatientService patientService;
 
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private PatientImportService patientImportService;
+
+    @Autowired
+    private PatientSearchService patientSearchService;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
     @PostMapping
     public ResponseEntity<ApiResponse> createPatient(@RequestBody Patient patient) {
         try {
@@ -41,21 +65,117 @@ public class PatientController {
         }
     }
 
+    /**
+     * Bulk import from the raw request body: a CSV file with a header row, or a JSON array of patients.
+     * The format comes from the "format" parameter, else from the Content-Type.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse> importPatients(@RequestParam(required = false) String format,
+                                                      HttpServletRequest request) {
+        // Role-based access control: Only ADMIN can bulk import patients
+        if (!RoleUtil.isAdmin(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponse(false, "Access denied. Only ADMIN can bulk import patients."));
+        }
+        try {
+            // Validate content type: a form-encoded body is consumed by the servlet container as parameters
+            String contentType = request.getContentType();
+            if (contentType != null && contentType.toLowerCase().startsWith("application/x-www-form-urlencoded")) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Send the file as the request body with Content-Type text/csv or application/json"));
+            }
+
+            String resolvedFormat = format;
+            if (resolvedFormat == null || resolvedFormat.trim().isEmpty()) {
+                resolvedFormat = contentType != null && contentType.toLowerCase().contains("json")
+                    ? PatientImportService.FORMAT_JSON : PatientImportService.FORMAT_CSV;
+            }
+
+            PatientImportResult result = patientImportService.importPatients(request.getInputStream(),
+                resolvedFormat.trim().toLowerCase());
+            return ResponseEntity.ok(new ApiResponse(true, "Imported " + result.getImportedRows() + " of "
+                + result.getTotalRows() + " patients", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to import patients: " + e.getMessage()));
+        }
+    }
+
     @GetMapping
-    public ResponseEntity<ApiResponse> getAllPatients() {
+    public ResponseEntity<ApiResponse> getAllPatients(@RequestParam(required = false) Long after,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) String cursor,
+                                                      WebRequest webRequest) {
         try {
-            List<Patient> patients = patientService.getAllPatients();
-            return ResponseEntity.ok(new ApiResponse(true, "Patients retrieved successfully", patients));
+            // Read the version before the rows, so a concurrent write can only make the ETag older than the body
+            String etag = collectionVersionService.getEtag(CollectionVersionService.PATIENTS);
+            ResponseEntity<ApiResponse> notModified = EtagUtil.notModified(webRequest, etag);
+            if (notModified != null) {
+                return notModified;
+            }
+
+            if (CursorUtil.isPaged(after, limit, cursor)) {
+                int pageSize = CursorUtil.resolveLimit(limit);
+                List<Patient> page = patientService.getPatientsAfter(CursorUtil.resolveAfterId(after, cursor), pageSize + 1);
+                return EtagUtil.ok(CursorUtil.page("Patients retrieved successfully", page, pageSize,
+                    patient -> CursorUtil.encode(patient.getId())), etag);
+            }
+
+            // Unpaged: rows are written out one at a time from a database cursor, never held as one list
+            return EtagUtil.ok(new ApiResponse(true, "Patients retrieved successfully",
+                new RowStream<>(patientService::streamAllPatients)), etag);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to retrieve patients: " + e.getMessage()));
         }
     }
 
+    /**
+     * Ranked search by name fragment (typos tolerated) or by contact number digits,
+     * paged with the cursor returned by the previous page
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse> searchPatients(@RequestParam(required = false) String q,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) String cursor) {
+        try {
+            // Validate query
+            if (q == null || q.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Query parameter 'q' is required"));
+            }
+
+            int pageSize = CursorUtil.resolveLimit(limit);
+            long offset = CursorUtil.resolveAfterId(null, cursor);
+            if (offset < 0 || offset > PatientSearchService.MAX_OFFSET) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Invalid cursor"));
+            }
+            List<PatientSearchHit> hits = patientSearchService.search(q.trim(), (int) offset, pageSize + 1);
+            return ResponseEntity.ok(CursorUtil.page("Patients found successfully", hits, pageSize,
+                hit -> CursorUtil.encode(hit.getRank())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to search patients: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> getPatientById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getPatientById(@PathVariable Long id,
+                                                      @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
-            Patient patient = patientService.getPatientById(id);
+            Patient patient = includeArchived
+                ? archiveService.findIncludingArchived(Patient.class, id)
+                : patientService.getPatientById(id);
             
             if (patient == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
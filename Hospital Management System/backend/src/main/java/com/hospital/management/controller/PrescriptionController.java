@@ -1,21 +1,34 @@
 package com.hospital.management.controller;
 
+import com.hospital.management.config.StatementBudget;
 import com.hospital.management.dto.ApiResponse;
+import com.hospital.management.dto.PrescriptionSummary;
+import com.hospital.management.dto.PrescriptionItemRequest;
 import com.hospital.management.dto.PrescriptionRequest;
+import com.hospital.management.dto.RowStream;
+import com.hospital.management.exception.InsufficientStockException;
+import com.hospital.management.model.Medicine;
 import com.hospital.management.model.Prescription;
+import com.hospital.management.model.PrescriptionItem;
 import com.hospital.management.model.Patient;
 import com.hospital.management.model.Doctor;
 import com.hospital.management.model.Appointment;
 import com.hospital.management.repository.PatientRepository;
 import com.hospital.management.repository.DoctorRepository;
 import com.hospital.management.repository.AppointmentRepository;
+import com.hospital.management.repository.MedicineRepository;
+import com.hospital.management.service.ArchiveService;
 import com.hospital.management.service.PrescriptionService;
+import com.hospital.management.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -25,6 +38,9 @@ public class PrescriptionController {
     @Autowired
     private PrescriptionService prescriptionService;
 
+    @Autowired
+    private ArchiveService archiveService;
+
     @Autowired
     private PatientRepository patientRepository;
 
@@ -34,19 +50,27 @@ public class PrescriptionController {
     @Autowired
     private AppointmentRepository appointmentRepository;
 
+    @Autowired
+    private MedicineRepository medicineRepository;
+
     @PostMapping
     public ResponseEntity<ApiResponse> createPrescription(@RequestBody PrescriptionRequest request) {
         try {
             // Validate required fields
+            // Medicines may be given as free text, as items, or both
+            boolean hasItems = request.getItems() != null && !request.getItems().isEmpty();
             if (request.getPrescriptionDate() == null ||
                 request.getDiagnosis() == null || request.getDiagnosis().trim().isEmpty() ||
-                request.getMedicines() == null || request.getMedicines().trim().isEmpty() ||
+                ((request.getMedicines() == null || request.getMedicines().trim().isEmpty()) && !hasItems) ||
                 request.getPatientId() == null ||
                 request.getDoctorId() == null) {
                 return ResponseEntity.badRequest()
                     .body(new ApiResponse(false, "Prescription date, diagnosis, medicines, patient ID, and doctor ID are required"));
             }
 
+            // Validate items
+            List<PrescriptionItem> items = hasItems ? buildItems(request.getItems()) : new ArrayList<>();
+
             // Validate patient exists
             Optional<Patient> patientOptional = patientRepository.findById(request.getPatientId());
             if (patientOptional.isEmpty() || !patientOptional.get().getActive()) {
@@ -76,8 +100,10 @@ public class PrescriptionController {
             Prescription prescription = new Prescription();
             prescription.setPrescriptionDate(request.getPrescriptionDate());
             prescription.setDiagnosis(request.getDiagnosis());
-            prescription.setMedicines(request.getMedicines());
+            prescription.setMedicines(request.getMedicines() != null && !request.getMedicines().trim().isEmpty()
+                ? request.getMedicines() : describe(items));
             prescription.setNotes(request.getNotes());
+            prescription.replaceItems(items);
             prescription.setPatient(patientOptional.get());
             prescription.setDoctor(doctorOptional.get());
             prescription.setAppointment(appointment);
@@ -86,6 +112,9 @@ public class PrescriptionController {
             return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponse(true, "Prescription created successfully", createdPrescription));
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to create prescription: " + e.getMessage()));
@@ -93,10 +122,24 @@ public class PrescriptionController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse> getAllPrescriptions() {
+    @StatementBudget(2)
+    public ResponseEntity<ApiResponse> getAllPrescriptions(@RequestParam(required = false) Long after,
+                                                           @RequestParam(required = false) Integer limit,
+                                                           @RequestParam(required = false) String cursor) {
         try {
-            List<Prescription> prescriptions = prescriptionService.getAllPrescriptions();
-            return ResponseEntity.ok(new ApiResponse(true, "Prescriptions fetched successfully", prescriptions));
+            if (CursorUtil.isPaged(after, limit, cursor)) {
+                int pageSize = CursorUtil.resolveLimit(limit);
+                List<PrescriptionSummary> page = prescriptionService.getPrescriptionsAfter(CursorUtil.resolveAfterId(after, cursor), pageSize + 1);
+                return ResponseEntity.ok(CursorUtil.page("Prescriptions fetched successfully", page, pageSize,
+                    prescription -> CursorUtil.encode(prescription.getId())));
+            }
+
+            // Unpaged: rows are written out one at a time from a database cursor, never held as one list
+            return ResponseEntity.ok(new ApiResponse(true, "Prescriptions fetched successfully",
+                new RowStream<>(prescriptionService::streamAllPrescriptions)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to fetch prescriptions: " + e.getMessage()));
@@ -104,9 +147,12 @@ public class PrescriptionController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse> getPrescriptionById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getPrescriptionById(@PathVariable Long id,
+                                                           @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
-            Optional<Prescription> prescription = prescriptionService.getPrescriptionById(id);
+            Optional<Prescription> prescription = includeArchived
+                ? Optional.ofNullable(archiveService.findIncludingArchived(Prescription.class, id))
+                : prescriptionService.getPrescriptionById(id);
             if (prescription.isPresent()) {
                 return ResponseEntity.ok(new ApiResponse(true, "Prescription fetched successfully", prescription.get()));
             } else {
@@ -143,6 +189,7 @@ public class PrescriptionController {
             if (request.getNotes() != null) {
                 existingPrescription.setNotes(request.getNotes());
             }
+            List<PrescriptionItem> items = request.getItems() != null ? buildItems(request.getItems()) : null;
 
             // Update relationships if provided
             if (request.getPatientId() != null) {
@@ -170,7 +217,7 @@ public class PrescriptionController {
                 existingPrescription.setAppointment(appointmentOptional.get());
             }
 
-            Prescription updatedPrescription = prescriptionService.updatePrescription(id, existingPrescription);
+            Prescription updatedPrescription = prescriptionService.updatePrescription(id, existingPrescription, items);
             if (updatedPrescription != null) {
                 return ResponseEntity.ok(new ApiResponse(true, "Prescription updated successfully", updatedPrescription));
             } else {
@@ -178,6 +225,12 @@ public class PrescriptionController {
                     .body(new ApiResponse(false, "Failed to update prescription"));
             }
 
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ApiResponse(false, "Failed to update prescription: " + e.getMessage()));
@@ -199,5 +252,60 @@ public class PrescriptionController {
                 .body(new ApiResponse(false, "Failed to delete prescription: " + e.getMessage()));
         }
     }
-}
 
+    /**
+     * Dispense the prescription's items and take them out of stock, all or nothing
+     */
+    @PostMapping("/{id}/dispense")
+    public ResponseEntity<ApiResponse> dispensePrescription(@PathVariable Long id) {
+        try {
+            Prescription dispensed = prescriptionService.dispensePrescription(id);
+            if (dispensed == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse(false, "Prescription not found or inactive"));
+            }
+            return ResponseEntity.ok(new ApiResponse(true, "Prescription dispensed successfully", dispensed));
+        } catch (InsufficientStockException | IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to dispense prescription: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Resolve requested items to active medicines, merging repeated medicines into one line
+     */
+    private List<PrescriptionItem> buildItems(List<PrescriptionItemRequest> requests) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (PrescriptionItemRequest item : requests) {
+            if (item == null || item.getMedicineId() == null || item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Each item needs a medicine ID and a positive quantity");
+            }
+            quantities.merge(item.getMedicineId(), item.getQuantity(), Integer::sum);
+        }
+
+        List<PrescriptionItem> items = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Medicine medicine = medicineRepository.findByIdAndActiveTrue(entry.getKey())
+                .orElseThrow(() -> new IllegalArgumentException("Medicine not found or inactive: " + entry.getKey()));
+            items.add(new PrescriptionItem(medicine, entry.getValue()));
+        }
+        return items;
+    }
+
+    private String describe(List<PrescriptionItem> items) {
+        StringBuilder text = new StringBuilder();
+        for (PrescriptionItem item : items) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(item.getMedicine().getMedicineName()).append(" x ").append(item.getQuantity());
+        }
+        return text.toString();
+    }
+}
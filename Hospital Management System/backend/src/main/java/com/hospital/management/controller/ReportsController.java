@@ -3,14 +3,31 @@ package com.hospital.management.controller;
 import com.hospital.management.dto.ApiResponse;
 import com.hospital.management.dto.MonthlyAppointmentCount;
 import com.hospital.management.dto.MonthlyRevenue;
+import com.hospital.management.dto.ReportBucket;
+import com.hospital.management.dto.ReportJob;
+import com.hospital.management.dto.ReportJobRequest;
+import com.hospital.management.model.ReportGranularity;
+import com.hospital.management.model.ReportType;
+import com.hospital.management.service.ReportJobService;
+import com.hospital.management.service.ReportRollupService;
 import com.hospital.management.service.ReportsService;
+import com.hospital.management.util.RoleUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/reports")
@@ -19,6 +36,12 @@ public class ReportsController {
     @Autowired
     private ReportsService reportsService;
 
+    @Autowired
+    private ReportRollupService reportRollupService;
+
+    @Autowired
+    private ReportJobService reportJobService;
+
     @GetMapping("/monthly-appointments")
     public ResponseEntity<ApiResponse> getMonthlyAppointmentCounts() {
         try {
@@ -38,5 +61,123 @@ public class ReportsController {
             return ResponseEntity.ok(new ApiResponse(false, "Failed to retrieve monthly revenue summary: " + e.getMessage(), null));
         }
     }
-}
 
+    @GetMapping("/appointments")
+    public ResponseEntity<ApiResponse> getAppointmentCounts(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            List<ReportBucket> buckets = reportsService.getAppointmentCounts(ReportGranularity.parse(granularity), from, to);
+            return ResponseEntity.ok(new ApiResponse(true, "Appointment counts retrieved successfully", buckets));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to retrieve appointment counts: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/revenue")
+    public ResponseEntity<ApiResponse> getRevenue(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            List<ReportBucket> buckets = reportsService.getRevenue(ReportGranularity.parse(granularity), from, to);
+            return ResponseEntity.ok(new ApiResponse(true, "Revenue summary retrieved successfully", buckets));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to retrieve revenue summary: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Queue a report to run in the background; poll the job, then fetch its result.
+     * An identical request that is pending or has a fresh result gets that job back.
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<ApiResponse> submitReportJob(@RequestBody ReportJobRequest request) {
+        try {
+            ReportJob job = reportJobService.submit(ReportType.parse(request.getReport()),
+                ReportGranularity.parse(request.getGranularity()), request.getFrom(), request.getTo(),
+                Boolean.TRUE.equals(request.getRefresh()));
+            if (job.getStatus() == ReportJob.Status.COMPLETED) {
+                return ResponseEntity.ok(new ApiResponse(true, "Report is ready", job));
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse(true, "Report job accepted", job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse(false, e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ApiResponse(false, "Too many reports are queued. Please try again later."));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to submit report job: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ApiResponse> getReportJob(@PathVariable String id) {
+        try {
+            ReportJob job = reportJobService.getJob(id);
+            if (job == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse(false, "Report job not found or expired"));
+            }
+            return ResponseEntity.ok(new ApiResponse(true, "Report job retrieved successfully", job));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to retrieve report job: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 200 with the report rows once completed; 202 with the job while it is still queued or running
+     */
+    @GetMapping("/jobs/{id}/result")
+    public ResponseEntity<ApiResponse> getReportJobResult(@PathVariable String id) {
+        try {
+            ReportJob job = reportJobService.getJob(id);
+            if (job == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse(false, "Report job not found or expired"));
+            }
+            if (job.getStatus() == ReportJob.Status.FAILED) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse(false, "Report job failed: " + job.getError(), job));
+            }
+            List<ReportBucket> rows = reportJobService.getResult(id);
+            if (rows == null) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(new ApiResponse(true, "Report is not ready yet", job));
+            }
+            return ResponseEntity.ok(new ApiResponse(true, "Report retrieved successfully", rows));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to retrieve report: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<ApiResponse> rebuildRollups(HttpServletRequest request) {
+        // Role-based access control: Only ADMIN can rebuild the report rollups
+        if (!RoleUtil.isAdmin(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponse(false, "Access denied. Only ADMIN can rebuild report rollups."));
+        }
+        try {
+            long buckets = reportRollupService.rebuild();
+            return ResponseEntity.ok(new ApiResponse(true, "Report rollups rebuilt successfully", buckets));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse(false, "Failed to rebuild report rollups: " + e.getMessage()));
+        }
+    }
+}
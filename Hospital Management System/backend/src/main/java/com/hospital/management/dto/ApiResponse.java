@@ -1,11 +1,16 @@
 package com.hospital.management.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class ApiResponse {
     
     private boolean success;
     private String message;
     private Object data;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public ApiResponse() {
     }
 
@@ -20,6 +25,13 @@ public class ApiResponse {
         this.data = data;
     }
 
+    public ApiResponse(boolean success, String message, Object data, String nextCursor) {
+        this.success = success;
+        this.message = message;
+        this.data = data;
+        this.nextCursor = nextCursor;
+    }
+
     public boolean isSuccess() {
         return success;
     }
@@ -43,5 +55,12 @@ public class ApiResponse {
     public void setData(Object data) {
         this.data = data;
     }
-}
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hospital.management.dto;
+
+import java.time.LocalDate;
+
+public class AppointmentRef {
+    
+    private Long id;
+    private LocalDate appointmentDate;
+    private String appointmentTime;
+
+    public AppointmentRef() {
+    }
+
+    public AppointmentRef(Long id, LocalDate appointmentDate, String appointmentTime) {
+        this.id = id;
+        this.appointmentDate = appointmentDate;
+        this.appointmentTime = appointmentTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getAppointmentDate() {
+        return appointmentDate;
+    }
+
+    public void setAppointmentDate(LocalDate appointmentDate) {
+        this.appointmentDate = appointmentDate;
+    }
+
+    public String getAppointmentTime() {
+        return appointmentTime;
+    }
+
+    public void setAppointmentTime(String appointmentTime) {
+        this.appointmentTime = appointmentTime;
+    }
+}
@@ -0,0 +1,87 @@
+package com.hospital.management.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Appointment list row: only the columns the list screen shows, selected straight from the query
+ */
+public class AppointmentSummary {
+    
+    private Long id;
+    private LocalDate appointmentDate;
+    private String appointmentTime;
+    private String reason;
+    private String status;
+    private PatientRef patient;
+    private DoctorRef doctor;
+
+    public AppointmentSummary() {
+    }
+
+    public AppointmentSummary(Long id, LocalDate appointmentDate, String appointmentTime, String reason, String status,
+                              Long patientId, String patientName, Long doctorId, String doctorName, String specialization) {
+        this.id = id;
+        this.appointmentDate = appointmentDate;
+        this.appointmentTime = appointmentTime;
+        this.reason = reason;
+        this.status = status;
+        this.patient = new PatientRef(patientId, patientName);
+        this.doctor = new DoctorRef(doctorId, doctorName, specialization);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getAppointmentDate() {
+        return appointmentDate;
+    }
+
+    public void setAppointmentDate(LocalDate appointmentDate) {
+        this.appointmentDate = appointmentDate;
+    }
+
+    public String getAppointmentTime() {
+        return appointmentTime;
+    }
+
+    public void setAppointmentTime(String appointmentTime) {
+        this.appointmentTime = appointmentTime;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public PatientRef getPatient() {
+        return patient;
+    }
+
+    public void setPatient(PatientRef patient) {
+        this.patient = patient;
+    }
+
+    public DoctorRef getDoctor() {
+        return doctor;
+    }
+
+    public void setDoctor(DoctorRef doctor) {
+        this.doctor = doctor;
+    }
+}
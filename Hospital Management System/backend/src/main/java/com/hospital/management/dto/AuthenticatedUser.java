@@ -0,0 +1,23 @@
+package com.hospital.management.dto;
+
+/**
+ * Caller identity taken from a verified access token
+ */
+public class AuthenticatedUser {
+
+    private final Long id;
+    private final String role;
+
+    public AuthenticatedUser(Long id, String role) {
+        this.id = id;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRole() {
+        return role;
+    }
+}
@@ -1,13 +1,14 @@
 package com.hospital.management.dto;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public class BillingRequest {
     
     private LocalDate billDate;
-    private Double consultationFee;
-    private Double treatmentFee;
-    private Double medicineFee;
+    private BigDecimal consultationFee;
+    private BigDecimal treatmentFee;
+    private BigDecimal medicineFee;
     private String paymentMode;
     private String paymentStatus;
     private Long patientId;
@@ -24,27 +25,27 @@ public class BillingRequest {
         this.billDate = billDate;
     }
 
-    public Double getConsultationFee() {
+    public BigDecimal getConsultationFee() {
         return consultationFee;
     }
 
-    public void setConsultationFee(Double consultationFee) {
+    public void setConsultationFee(BigDecimal consultationFee) {
         this.consultationFee = consultationFee;
     }
 
-    public Double getTreatmentFee() {
+    public BigDecimal getTreatmentFee() {
         return treatmentFee;
     }
 
-    public void setTreatmentFee(Double treatmentFee) {
+    public void setTreatmentFee(BigDecimal treatmentFee) {
         this.treatmentFee = treatmentFee;
     }
 
-    public Double getMedicineFee() {
+    public BigDecimal getMedicineFee() {
         return medicineFee;
     }
 
-    public void setMedicineFee(Double medicineFee) {
+    public void setMedicineFee(BigDecimal medicineFee) {
         this.medicineFee = medicineFee;
     }
 
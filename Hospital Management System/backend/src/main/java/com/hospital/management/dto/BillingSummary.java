@@ -0,0 +1,121 @@
+package com.hospital.management.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Billing list row: only the columns the list screen shows, selected straight from the query
+ */
+public class BillingSummary {
+    
+    private Long id;
+    private LocalDate billDate;
+    private BigDecimal consultationFee;
+    private BigDecimal treatmentFee;
+    private BigDecimal medicineFee;
+    private BigDecimal totalAmount;
+    private String paymentMode;
+    private String paymentStatus;
+    private PatientRef patient;
+    private AppointmentRef appointment;
+
+    public BillingSummary() {
+    }
+
+    public BillingSummary(Long id, LocalDate billDate, BigDecimal consultationFee, BigDecimal treatmentFee, BigDecimal medicineFee,
+                          BigDecimal totalAmount, String paymentMode, String paymentStatus, Long patientId, String patientName,
+                          Long appointmentId, LocalDate appointmentDate, String appointmentTime) {
+        this.id = id;
+        this.billDate = billDate;
+        this.consultationFee = consultationFee;
+        this.treatmentFee = treatmentFee;
+        this.medicineFee = medicineFee;
+        this.totalAmount = totalAmount;
+        this.paymentMode = paymentMode;
+        this.paymentStatus = paymentStatus;
+        this.patient = new PatientRef(patientId, patientName);
+        if (appointmentId != null) {
+            this.appointment = new AppointmentRef(appointmentId, appointmentDate, appointmentTime);
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getBillDate() {
+        return billDate;
+    }
+
+    public void setBillDate(LocalDate billDate) {
+        this.billDate = billDate;
+    }
+
+    public BigDecimal getConsultationFee() {
+        return consultationFee;
+    }
+
+    public void setConsultationFee(BigDecimal consultationFee) {
+        this.consultationFee = consultationFee;
+    }
+
+    public BigDecimal getTreatmentFee() {
+        return treatmentFee;
+    }
+
+    public void setTreatmentFee(BigDecimal treatmentFee) {
+        this.treatmentFee = treatmentFee;
+    }
+
+    public BigDecimal getMedicineFee() {
+        return medicineFee;
+    }
+
+    public void setMedicineFee(BigDecimal medicineFee) {
+        this.medicineFee = medicineFee;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public String getPaymentMode() {
+        return paymentMode;
+    }
+
+    public void setPaymentMode(String paymentMode) {
+        this.paymentMode = paymentMode;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public PatientRef getPatient() {
+        return patient;
+    }
+
+    public void setPatient(PatientRef patient) {
+        this.patient = patient;
+    }
+
+    public AppointmentRef getAppointment() {
+        return appointment;
+    }
+
+    public void setAppointment(AppointmentRef appointment) {
+        this.appointment = appointment;
+    }
+}
@@ -0,0 +1,64 @@
+package com.hospital.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public class CacheRegionStats {
+    
+    private String region;
+    private Long hitCount;
+    private Long missCount;
+    private Long putCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long elementCountInMemory;
+
+    public CacheRegionStats() {
+    }
+
+    public CacheRegionStats(String region, Long hitCount, Long missCount, Long putCount, Long elementCountInMemory) {
+        this.region = region;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.elementCountInMemory = elementCountInMemory;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public Long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(Long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public Long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(Long missCount) {
+        this.missCount = missCount;
+    }
+
+    public Long getPutCount() {
+        return putCount;
+    }
+
+    public void setPutCount(Long putCount) {
+        this.putCount = putCount;
+    }
+
+    public Long getElementCountInMemory() {
+        return elementCountInMemory;
+    }
+
+    public void setElementCountInMemory(Long elementCountInMemory) {
+        this.elementCountInMemory = elementCountInMemory;
+    }
+}
@@ -0,0 +1,55 @@
+package com.hospital.management.dto;
+
+import java.util.List;
+
+public class CacheStats {
+    
+    private Boolean statisticsEnabled;
+    private Long secondLevelCacheHits;
+    private Long secondLevelCacheMisses;
+    private Long secondLevelCachePuts;
+    private List<CacheRegionStats> regions;
+
+    public CacheStats() {
+    }
+
+    public Boolean getStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(Boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public Long getSecondLevelCacheHits() {
+        return secondLevelCacheHits;
+    }
+
+    public void setSecondLevelCacheHits(Long secondLevelCacheHits) {
+        this.secondLevelCacheHits = secondLevelCacheHits;
+    }
+
+    public Long getSecondLevelCacheMisses() {
+        return secondLevelCacheMisses;
+    }
+
+    public void setSecondLevelCacheMisses(Long secondLevelCacheMisses) {
+        this.secondLevelCacheMisses = secondLevelCacheMisses;
+    }
+
+    public Long getSecondLevelCachePuts() {
+        return secondLevelCachePuts;
+    }
+
+    public void setSecondLevelCachePuts(Long secondLevelCachePuts) {
+        this.secondLevelCachePuts = secondLevelCachePuts;
+    }
+
+    public List<CacheRegionStats> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(List<CacheRegionStats> regions) {
+        this.regions = regions;
+    }
+}
@@ -1,19 +1,21 @@
 package com.hospital.management.dto;
 
+import java.math.BigDecimal;
+
 public class DashboardSummary {
     
     private Long totalPatients;
     private Long totalDoctors;
     private Long totalAppointments;
     private Long totalBills;
-    private Double totalRevenue;
+    private BigDecimal totalRevenue;
     private Long pendingPayments;
 
     public DashboardSummary() {
     }
 
     public DashboardSummary(Long totalPatients, Long totalDoctors, Long totalAppointments, 
-                           Long totalBills, Double totalRevenue, Long pendingPayments) {
+                           Long totalBills, BigDecimal totalRevenue, Long pendingPayments) {
         this.totalPatients = totalPatients;
         this.totalDoctors = totalDoctors;
         this.totalAppointments = totalAppointments;
@@ -54,11 +56,11 @@ public class DashboardSummary {
         this.totalBills = totalBills;
     }
 
-    public Double getTotalRevenue() {
+    public BigDecimal getTotalRevenue() {
         return totalRevenue;
     }
 
-    public void setTotalRevenue(Double totalRevenue) {
+    public void setTotalRevenue(BigDecimal totalRevenue) {
         this.totalRevenue = totalRevenue;
     }
 
@@ -0,0 +1,35 @@
+package com.hospital.management.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class DayAvailability {
+    
+    private LocalDate date;
+    // Runs of consecutive free slots, each from the start of its first slot to the end of its last
+    private List<SlotRange> freeRanges;
+
+    public DayAvailability() {
+    }
+
+    public DayAvailability(LocalDate date, List<SlotRange> freeRanges) {
+        this.date = date;
+        this.freeRanges = freeRanges;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public List<SlotRange> getFreeRanges() {
+        return freeRanges;
+    }
+
+    public void setFreeRanges(List<SlotRange> freeRanges) {
+        this.freeRanges = freeRanges;
+    }
+}
@@ -0,0 +1,59 @@
+package com.hospital.management.dto;
+
+import java.util.List;
+
+public class DoctorAvailability {
+    
+    private Long doctorId;
+    private String doctorName;
+    private String specialization;
+    private List<DayAvailability> days;
+
+    public DoctorAvailability() {
+    }
+
+    public DoctorAvailability(Long doctorId, String doctorName, String specialization) {
+        this.doctorId = doctorId;
+        this.doctorName = doctorName;
+        this.specialization = specialization;
+    }
+
+    public DoctorAvailability(Long doctorId, String doctorName, String specialization, List<DayAvailability> days) {
+        this.doctorId = doctorId;
+        this.doctorName = doctorName;
+        this.specialization = specialization;
+        this.days = days;
+    }
+
+    public Long getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(Long doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public String getDoctorName() {
+        return doctorName;
+    }
+
+    public void setDoctorName(String doctorName) {
+        this.doctorName = doctorName;
+    }
+
+    public String getSpecialization() {
+        return specialization;
+    }
+
+    public void setSpecialization(String specialization) {
+        this.specialization = specialization;
+    }
+
+    public List<DayAvailability> getDays() {
+        return days;
+    }
+
+    public void setDays(List<DayAvailability> days) {
+        this.days = days;
+    }
+}
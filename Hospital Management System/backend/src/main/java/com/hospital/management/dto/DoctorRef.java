@@ -0,0 +1,41 @@
+package com.hospital.management.dto;
+
+public class DoctorRef {
+    
+    private Long id;
+    private String doctorName;
+    private String specialization;
+
+    public DoctorRef() {
+    }
+
+    public DoctorRef(Long id, String doctorName, String specialization) {
+        this.id = id;
+        this.doctorName = doctorName;
+        this.specialization = specialization;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDoctorName() {
+        return doctorName;
+    }
+
+    public void setDoctorName(String doctorName) {
+        this.doctorName = doctorName;
+    }
+
+    public String getSpecialization() {
+        return specialization;
+    }
+
+    public void setSpecialization(String specialization) {
+        this.specialization = specialization;
+    }
+}
@@ -1,9 +1,11 @@
 package com.hospital.management.dto;
 
+import java.math.BigDecimal;
+
 public class LabTestRequest {
     
     private String testName;
-    private Double testFee;
+    private BigDecimal testFee;
     private String result;
     private String status;
     private Long patientId;
@@ -11,7 +13,7 @@ public class LabTestRequest {
     public LabTestRequest() {
     }
 
-    public LabTestRequest(String testName, Double testFee, String result, String status, Long patientId) {
+    public LabTestRequest(String testName, BigDecimal testFee, String result, String status, Long patientId) {
         this.testName = testName;
         this.testFee = testFee;
         this.result = result;
@@ -27,11 +29,11 @@ public class LabTestRequest {
         this.testName = testName;
     }
 
-    public Double getTestFee() {
+    public BigDecimal getTestFee() {
         return testFee;
     }
 
-    public void setTestFee(Double testFee) {
+    public void setTestFee(BigDecimal testFee) {
         this.testFee = testFee;
     }
 
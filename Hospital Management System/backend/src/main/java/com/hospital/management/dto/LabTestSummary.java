@@ -0,0 +1,77 @@
+package com.hospital.management.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Lab test list row: only the columns the list screen shows, selected straight from the query
+ */
+public class LabTestSummary {
+    
+    private Long id;
+    private String testName;
+    private BigDecimal testFee;
+    private String result;
+    private String status;
+    private PatientRef patient;
+
+    public LabTestSummary() {
+    }
+
+    public LabTestSummary(Long id, String testName, BigDecimal testFee, String result, String status,
+                          Long patientId, String patientName) {
+        this.id = id;
+        this.testName = testName;
+        this.testFee = testFee;
+        this.result = result;
+        this.status = status;
+        this.patient = new PatientRef(patientId, patientName);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public void setTestName(String testName) {
+        this.testName = testName;
+    }
+
+    public BigDecimal getTestFee() {
+        return testFee;
+    }
+
+    public void setTestFee(BigDecimal testFee) {
+        this.testFee = testFee;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public PatientRef getPatient() {
+        return patient;
+    }
+
+    public void setPatient(PatientRef patient) {
+        this.patient = patient;
+    }
+}
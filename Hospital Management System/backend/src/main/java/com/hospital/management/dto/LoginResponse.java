@@ -6,6 +6,9 @@ public class LoginResponse {
     private String name;
     private String email;
     private String role;
+    private String accessToken;
+    private String tokenType;
+    private Long expiresIn;
 
     public LoginResponse() {
     }
@@ -48,5 +51,28 @@ public class LoginResponse {
     public void setRole(String role) {
         this.role = role;
     }
-}
 
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+}
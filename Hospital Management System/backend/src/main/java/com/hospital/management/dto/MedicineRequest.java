@@ -1,15 +1,17 @@
 package com.hospital.management.dto;
 
+import java.math.BigDecimal;
+
 public class MedicineRequest {
     
     private String medicineName;
-    private Double price;
+    private BigDecimal price;
     private Integer stock;
 
     public MedicineRequest() {
     }
 
-    public MedicineRequest(String medicineName, Double price, Integer stock) {
+    public MedicineRequest(String medicineName, BigDecimal price, Integer stock) {
         this.medicineName = medicineName;
         this.price = price;
         this.stock = stock;
@@ -23,11 +25,11 @@ public class MedicineRequest {
         this.medicineName = medicineName;
     }
 
-    public Double getPrice() {
+    public BigDecimal getPrice() {
         return price;
     }
 
-    public void setPrice(Double price) {
+    public void setPrice(BigDecimal price) {
         this.price = price;
     }
 
@@ -0,0 +1,44 @@
+package com.hospital.management.dto;
+
+/**
+ * Typeahead match for the medicine catalogue
+ */
+public class MedicineSuggestion {
+
+    private Long id;
+    private String medicineName;
+    private Integer stock;
+
+    public MedicineSuggestion() {
+    }
+
+    public MedicineSuggestion(Long id, String medicineName, Integer stock) {
+        this.id = id;
+        this.medicineName = medicineName;
+        this.stock = stock;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getMedicineName() {
+        return medicineName;
+    }
+
+    public void setMedicineName(String medicineName) {
+        this.medicineName = medicineName;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+}
@@ -1,14 +1,16 @@
 package com.hospital.management.dto;
 
+import java.math.BigDecimal;
+
 public class MonthlyRevenue {
     
     private String month;
-    private Double totalRevenue;
+    private BigDecimal totalRevenue;
 
     public MonthlyRevenue() {
     }
 
-    public MonthlyRevenue(String month, Double totalRevenue) {
+    public MonthlyRevenue(String month, BigDecimal totalRevenue) {
         this.month = month;
         this.totalRevenue = totalRevenue;
     }
@@ -21,11 +23,11 @@ public class MonthlyRevenue {
         this.month = month;
     }
 
-    public Double getTotalRevenue() {
+    public BigDecimal getTotalRevenue() {
         return totalRevenue;
     }
 
-    public void setTotalRevenue(Double totalRevenue) {
+    public void setTotalRevenue(BigDecimal totalRevenue) {
         this.totalRevenue = totalRevenue;
     }
 }
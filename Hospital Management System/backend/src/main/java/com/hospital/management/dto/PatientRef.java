@@ -0,0 +1,31 @@
+package com.hospital.management.dto;
+
+public class PatientRef {
+    
+    private Long id;
+    private String patientName;
+
+    public PatientRef() {
+    }
+
+    public PatientRef(Long id, String patientName) {
+        this.id = id;
+        this.patientName = patientName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getPatientName() {
+        return patientName;
+    }
+
+    public void setPatientName(String patientName) {
+        this.patientName = patientName;
+    }
+}
@@ -0,0 +1,64 @@
+package com.hospital.management.dto;
+
+/**
+ * Patient search result; rank is the 1-based position in the ranked result list
+ */
+public class PatientSearchHit {
+
+    private int rank;
+    private Long id;
+    private String patientName;
+    private String contactNumber;
+    private double score;
+
+    public PatientSearchHit() {
+    }
+
+    public PatientSearchHit(int rank, Long id, String patientName, String contactNumber, double score) {
+        this.rank = rank;
+        this.id = id;
+        this.patientName = patientName;
+        this.contactNumber = contactNumber;
+        this.score = score;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getPatientName() {
+        return patientName;
+    }
+
+    public void setPatientName(String patientName) {
+        this.patientName = patientName;
+    }
+
+    public String getContactNumber() {
+        return contactNumber;
+    }
+
+    public void setContactNumber(String contactNumber) {
+        this.contactNumber = contactNumber;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,31 @@
+package com.hospital.management.dto;
+
+public class PrescriptionItemRequest {
+
+    private Long medicineId;
+    private Integer quantity;
+
+    public PrescriptionItemRequest() {
+    }
+
+    public PrescriptionItemRequest(Long medicineId, Integer quantity) {
+        this.medicineId = medicineId;
+        this.quantity = quantity;
+    }
+
+    public Long getMedicineId() {
+        return medicineId;
+    }
+
+    public void setMedicineId(Long medicineId) {
+        this.medicineId = medicineId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hospital.management.dto;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public class PrescriptionRequest {
     
@@ -11,6 +12,7 @@ public class PrescriptionRequest {
     private Long patientId;
     private Long doctorId;
     private Long appointmentId;
+    private List<PrescriptionItemRequest> items;
 
     public PrescriptionRequest() {
     }
@@ -81,5 +83,12 @@ public class PrescriptionRequest {
     public void setAppointmentId(Long appointmentId) {
         this.appointmentId = appointmentId;
     }
-}
 
+    public List<PrescriptionItemRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<PrescriptionItemRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,100 @@
+package com.hospital.management.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Prescription list row: only the columns the list screen shows, selected straight from the query
+ */
+public class PrescriptionSummary {
+    
+    private Long id;
+    private LocalDate prescriptionDate;
+    private String diagnosis;
+    private String medicines;
+    private String notes;
+    private PatientRef patient;
+    private DoctorRef doctor;
+    private AppointmentRef appointment;
+
+    public PrescriptionSummary() {
+    }
+
+    public PrescriptionSummary(Long id, LocalDate prescriptionDate, String diagnosis, String medicines, String notes,
+                               Long patientId, String patientName, Long doctorId, String doctorName, String specialization,
+                               Long appointmentId, LocalDate appointmentDate, String appointmentTime) {
+        this.id = id;
+        this.prescriptionDate = prescriptionDate;
+        this.diagnosis = diagnosis;
+        this.medicines = medicines;
+        this.notes = notes;
+        this.patient = new PatientRef(patientId, patientName);
+        this.doctor = new DoctorRef(doctorId, doctorName, specialization);
+        if (appointmentId != null) {
+            this.appointment = new AppointmentRef(appointmentId, appointmentDate, appointmentTime);
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getPrescriptionDate() {
+        return prescriptionDate;
+    }
+
+    public void setPrescriptionDate(LocalDate prescriptionDate) {
+        this.prescriptionDate = prescriptionDate;
+    }
+
+    public String getDiagnosis() {
+        return diagnosis;
+    }
+
+    public void setDiagnosis(String diagnosis) {
+        this.diagnosis = diagnosis;
+    }
+
+    public String getMedicines() {
+        return medicines;
+    }
+
+    public void setMedicines(String medicines) {
+        this.medicines = medicines;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public PatientRef getPatient() {
+        return patient;
+    }
+
+    public void setPatient(PatientRef patient) {
+        this.patient = patient;
+    }
+
+    public DoctorRef getDoctor() {
+        return doctor;
+    }
+
+    public void setDoctor(DoctorRef doctor) {
+        this.doctor = doctor;
+    }
+
+    public AppointmentRef getAppointment() {
+        return appointment;
+    }
+
+    public void setAppointment(AppointmentRef appointment) {
+        this.appointment = appointment;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hospital.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class ReportBucket {
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String group;
+    private String period;
+    private LocalDate bucketStart;
+    private Long count;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BigDecimal totalAmount;
+
+    public ReportBucket() {
+    }
+
+    public ReportBucket(String period, LocalDate bucketStart, Long count, BigDecimal totalAmount) {
+        this.period = period;
+        this.bucketStart = bucketStart;
+        this.count = count;
+        this.totalAmount = totalAmount;
+    }
+
+    /**
+     * Breakdown key (doctor name, payment mode) for grouped reports; null for totals
+     */
+    public String getGroup() {
+        return group;
+    }
+
+    public void setGroup(String group) {
+        this.group = group;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDate bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+}
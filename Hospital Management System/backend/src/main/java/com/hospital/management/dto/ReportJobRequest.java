@@ -0,0 +1,58 @@
+package com.hospital.management.dto;
+
+import java.time.LocalDate;
+
+public class ReportJobRequest {
+
+    private String report;
+    private String granularity;
+    private LocalDate from;
+    private LocalDate to;
+    private Boolean refresh;
+
+    public ReportJobRequest() {
+    }
+
+    public String getReport() {
+        return report;
+    }
+
+    public void setReport(String report) {
+        this.report = report;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    /**
+     * Recompute even if a cached result for the same report is still fresh
+     */
+    public Boolean getRefresh() {
+        return refresh;
+    }
+
+    public void setRefresh(Boolean refresh) {
+        this.refresh = refresh;
+    }
+}
@@ -0,0 +1,59 @@
+package com.hospital.management.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * List data that is serialized as a JSON array while it is read: the source pushes rows
+ * (typically from a database cursor) and each one is written to the response straight away,
+ * so the rows are never held as one list. Use it as ApiResponse data; the JSON is the same
+ * as for a List. The source runs during response serialization, so it opens its own transaction.
+ */
+@JsonSerialize(using = RowStream.Serializer.class)
+public class RowStream<T> {
+
+    private final Consumer<Consumer<T>> source;
+
+    public RowStream(Consumer<Consumer<T>> source) {
+        this.source = source;
+    }
+
+    public static class Serializer extends StdSerializer<RowStream<?>> {
+
+        public Serializer() {
+            super(RowStream.class, false);
+        }
+
+        @Override
+        public void serialize(RowStream<?> rows, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartArray();
+            try {
+                writeRows(rows, generator, provider);
+            } catch (RuntimeException e) {
+                // Leave the array open, so closing the generator cannot pass a truncated list off as complete
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                if (e instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e).getCause();
+                }
+                throw e;
+            }
+            generator.writeEndArray();
+        }
+
+        private static <T> void writeRows(RowStream<T> rows, JsonGenerator generator, SerializerProvider provider) {
+            rows.source.accept(row -> {
+                try {
+                    provider.defaultSerializeValue(row, generator);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
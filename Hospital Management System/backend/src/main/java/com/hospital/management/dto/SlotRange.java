@@ -0,0 +1,31 @@
+package com.hospital.management.dto;
+
+public class SlotRange {
+    
+    private String start;
+    private String end;
+
+    public SlotRange() {
+    }
+
+    public SlotRange(String start, String end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public String getStart() {
+        return start;
+    }
+
+    public void setStart(String start) {
+        this.start = start;
+    }
+
+    public String getEnd() {
+        return end;
+    }
+
+    public void setEnd(String end) {
+        this.end = end;
+    }
+}
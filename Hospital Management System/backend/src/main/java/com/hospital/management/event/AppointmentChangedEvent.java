@@ -0,0 +1,65 @@
+package com.hospital.management.event;
+
+import com.hospital.management.model.Appointment;
+
+import java.time.LocalDate;
+
+/**
+ * Published inside the writing transaction whenever an appointment is created, updated or soft-deleted.
+ * A null snapshot means the appointment was not active on that side of the change.
+ */
+public class AppointmentChangedEvent {
+
+    private final Snapshot before;
+    private final Snapshot after;
+
+    public AppointmentChangedEvent(Snapshot before, Snapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public Snapshot getBefore() {
+        return before;
+    }
+
+    public Snapshot getAfter() {
+        return after;
+    }
+
+    public static class Snapshot {
+
+        private final Long id;
+        private final Long doctorId;
+        private final LocalDate appointmentDate;
+        private final String appointmentTime;
+        private final String status;
+
+        public Snapshot(Appointment appointment) {
+            this.id = appointment.getId();
+            this.doctorId = appointment.getDoctor() != null ? appointment.getDoctor().getId() : null;
+            this.appointmentDate = appointment.getAppointmentDate();
+            this.appointmentTime = appointment.getAppointmentTime();
+            this.status = appointment.getStatus();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Long getDoctorId() {
+            return doctorId;
+        }
+
+        public LocalDate getAppointmentDate() {
+            return appointmentDate;
+        }
+
+        public String getAppointmentTime() {
+            return appointmentTime;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+    }
+}
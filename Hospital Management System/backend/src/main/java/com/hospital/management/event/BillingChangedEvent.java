@@ -0,0 +1,68 @@
+package com.hospital.management.event;
+
+import com.hospital.management.model.Billing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Published inside the writing transaction whenever a bill is created, updated or soft-deleted.
+ * A null snapshot means the bill was not active on that side of the change.
+ */
+public class BillingChangedEvent {
+
+    private final Snapshot before;
+    private final Snapshot after;
+
+    public BillingChangedEvent(Snapshot before, Snapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public Snapshot getBefore() {
+        return before;
+    }
+
+    public Snapshot getAfter() {
+        return after;
+    }
+
+    public static class Snapshot {
+
+        private final Long id;
+        private final LocalDate billDate;
+        private final String paymentStatus;
+        private final BigDecimal totalAmount;
+
+        public Snapshot(Billing billing) {
+            this.id = billing.getId();
+            this.billDate = billing.getBillDate();
+            this.paymentStatus = billing.getPaymentStatus();
+            this.totalAmount = billing.getTotalAmount();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public LocalDate getBillDate() {
+            return billDate;
+        }
+
+        public String getPaymentStatus() {
+            return paymentStatus;
+        }
+
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        public boolean isPaid() {
+            return "PAID".equals(paymentStatus);
+        }
+
+        public boolean isPending() {
+            return "PENDING".equals(paymentStatus);
+        }
+    }
+}
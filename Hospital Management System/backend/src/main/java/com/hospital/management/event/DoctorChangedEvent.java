@@ -0,0 +1,45 @@
+package com.hospital.management.event;
+
+import com.hospital.management.model.Doctor;
+
+/**
+ * Published inside the writing transaction whenever a doctor is created, updated or soft-deleted.
+ * A null snapshot means the doctor was not active on that side of the change.
+ */
+public class DoctorChangedEvent {
+
+    private final Snapshot before;
+    private final Snapshot after;
+
+    public DoctorChangedEvent(Snapshot before, Snapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public Snapshot getBefore() {
+        return before;
+    }
+
+    public Snapshot getAfter() {
+        return after;
+    }
+
+    public static class Snapshot {
+
+        private final Long id;
+        private final String specialization;
+
+        public Snapshot(Doctor doctor) {
+            this.id = doctor.getId();
+            this.specialization = doctor.getSpecialization();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getSpecialization() {
+            return specialization;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.hospital.management.event;
+
+import com.hospital.management.model.Patient;
+
+/**
+ * Published inside the writing transaction whenever a patient is created, updated or soft-deleted.
+ * A null snapshot means the patient was not active on that side of the change.
+ */
+public class PatientChangedEvent {
+
+    private final Snapshot before;
+    private final Snapshot after;
+
+    public PatientChangedEvent(Snapshot before, Snapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public Snapshot getBefore() {
+        return before;
+    }
+
+    public Snapshot getAfter() {
+        return after;
+    }
+
+    public static class Snapshot {
+
+        private final Long id;
+        private final String patientName;
+        private final String contactNumber;
+
+        public Snapshot(Patient patient) {
+            this.id = patient.getId();
+            this.patientName = patient.getPatientName();
+            this.contactNumber = patient.getContactNumber();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getPatientName() {
+            return patientName;
+        }
+
+        public String getContactNumber() {
+            return contactNumber;
+        }
+    }
+}
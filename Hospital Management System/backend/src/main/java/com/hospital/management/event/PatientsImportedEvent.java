@@ -0,0 +1,24 @@
+package com.hospital.management.event;
+
+import java.util.List;
+
+/**
+ * Published inside a bulk import transaction once per committed chunk, instead of one
+ * PatientChangedEvent per row, so listeners can apply the whole chunk at once.
+ */
+public class PatientsImportedEvent {
+
+    private final List<PatientChangedEvent.Snapshot> patients;
+
+    public PatientsImportedEvent(List<PatientChangedEvent.Snapshot> patients) {
+        this.patients = patients;
+    }
+
+    public List<PatientChangedEvent.Snapshot> getPatients() {
+        return patients;
+    }
+
+    public int getCount() {
+        return patients.size();
+    }
+}
@@ -0,0 +1,18 @@
+package com.hospital.management.exception;
+
+/**
+ * Thrown when dispensing would take a medicine's stock below zero
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    private final Long medicineId;
+
+    public InsufficientStockException(Long medicineId, String message) {
+        super(message);
+        this.medicineId = medicineId;
+    }
+
+    public Long getMedicineId() {
+        return medicineId;
+    }
+}
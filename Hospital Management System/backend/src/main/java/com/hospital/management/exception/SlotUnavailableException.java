@@ -0,0 +1,15 @@
+package com.hospital.management.exception;
+
+/**
+ * Thrown when a doctor's slot is already booked or is being booked by a concurrent request
+ */
+public class SlotUnavailableException extends RuntimeException {
+
+    public SlotUnavailableException(String message) {
+        super(message);
+    }
+
+    public SlotUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,13 +1,22 @@
 package com.hospital.management.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", indexes = {
+    @Index(name = "idx_appointments_active_id", columnList = "active, id"),
+    @Index(name = "idx_appointments_active_date", columnList = "active, appointment_date")
+}, uniqueConstraints = {
+    // Also serves lookups of a doctor's appointments by day
+    @UniqueConstraint(name = Appointment.SLOT_CONSTRAINT, columnNames = {"doctor_id", "appointment_date", "booked_slot"})
+})
 public class Appointment {
 
+    public static final String SLOT_CONSTRAINT = "uk_appointments_doctor_slot";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,12 +33,12 @@ public class Appointment {
     @Column(nullable = false)
     private String status;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Patient patient;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "doctor_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Doctor doctor;
@@ -37,6 +46,12 @@ public class Appointment {
     @Column(nullable = false)
     private Boolean active;
 
+    // Start of the booked slot as minute of the day; null once the appointment is cancelled or deleted,
+    // so the unique constraint only applies to live bookings
+    @JsonIgnore
+    @Column(name = "booked_slot")
+    private Integer bookedSlot;
+
     public Appointment() {
         this.active = true;
         this.status = "SCHEDULED";
@@ -116,5 +131,12 @@ public class Appointment {
     public void setActive(Boolean active) {
         this.active = active;
     }
-}
 
+    public Integer getBookedSlot() {
+        return bookedSlot;
+    }
+
+    public void setBookedSlot(Integer bookedSlot) {
+        this.bookedSlot = bookedSlot;
+    }
+}
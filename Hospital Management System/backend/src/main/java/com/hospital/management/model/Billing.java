@@ -2,10 +2,14 @@ package com.hospital.management.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "billings")
+@Table(name = "billings", indexes = {
+    @Index(name = "idx_billings_active_id", columnList = "active, id"),
+    @Index(name = "idx_billings_status_active_date", columnList = "payment_status, active, bill_date, total_amount")
+})
 public class Billing {
 
     @Id
@@ -15,17 +19,17 @@ public class Billing {
     @Column(nullable = false)
     private LocalDate billDate;
 
-    @Column(nullable = false)
-    private Double consultationFee;
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal consultationFee;
 
-    @Column(nullable = false)
-    private Double treatmentFee;
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal treatmentFee;
 
-    @Column(nullable = false)
-    private Double medicineFee;
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal medicineFee;
 
-    @Column(nullable = false)
-    private Double totalAmount;
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalAmount;
 
     @Column(nullable = false)
     private String paymentMode;
@@ -33,12 +37,12 @@ public class Billing {
     @Column(nullable = false)
     private String paymentStatus;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Patient patient;
 
-    @OneToOne(fetch = FetchType.EAGER)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "appointment_id", nullable = true)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Appointment appointment;
@@ -48,21 +52,21 @@ public class Billing {
 
     public Billing() {
         this.active = true;
-        this.consultationFee = 0.0;
-        this.treatmentFee = 0.0;
-        this.medicineFee = 0.0;
-        this.totalAmount = 0.0;
+        this.consultationFee = BigDecimal.ZERO;
+        this.treatmentFee = BigDecimal.ZERO;
+        this.medicineFee = BigDecimal.ZERO;
+        this.totalAmount = BigDecimal.ZERO;
         this.paymentStatus = "PENDING";
     }
 
-    public Billing(LocalDate billDate, Double consultationFee, Double treatmentFee, 
-                   Double medicineFee, String paymentMode, String paymentStatus, 
+    public Billing(LocalDate billDate, BigDecimal consultationFee, BigDecimal treatmentFee, 
+                   BigDecimal medicineFee, String paymentMode, String paymentStatus, 
                    Patient patient, Appointment appointment) {
         this.billDate = billDate;
         this.consultationFee = consultationFee;
         this.treatmentFee = treatmentFee;
         this.medicineFee = medicineFee;
-        this.totalAmount = consultationFee + treatmentFee + medicineFee;
+        this.totalAmount = consultationFee.add(treatmentFee).add(medicineFee);
         this.paymentMode = paymentMode;
         this.paymentStatus = paymentStatus;
         this.patient = patient;
@@ -86,35 +90,35 @@ public class Billing {
         this.billDate = billDate;
     }
 
-    public Double getConsultationFee() {
+    public BigDecimal getConsultationFee() {
         return consultationFee;
     }
 
-    public void setConsultationFee(Double consultationFee) {
+    public void setConsultationFee(BigDecimal consultationFee) {
         this.consultationFee = consultationFee;
     }
 
-    public Double getTreatmentFee() {
+    public BigDecimal getTreatmentFee() {
         return treatmentFee;
     }
 
-    public void setTreatmentFee(Double treatmentFee) {
+    public void setTreatmentFee(BigDecimal treatmentFee) {
         this.treatmentFee = treatmentFee;
     }
 
-    public Double getMedicineFee() {
+    public BigDecimal getMedicineFee() {
         return medicineFee;
     }
 
-    public void setMedicineFee(Double medicineFee) {
+    public void setMedicineFee(BigDecimal medicineFee) {
         this.medicineFee = medicineFee;
     }
 
-    public Double getTotalAmount() {
+    public BigDecimal getTotalAmount() {
         return totalAmount;
     }
 
-    public void setTotalAmount(Double totalAmount) {
+    public void setTotalAmount(BigDecimal totalAmount) {
         this.totalAmount = totalAmount;
     }
 
@@ -0,0 +1,48 @@
+package com.hospital.management.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "dashboard_counters")
+public class DashboardCounter {
+
+    public static final String PATIENTS = "PATIENTS";
+    public static final String DOCTORS = "DOCTORS";
+    public static final String APPOINTMENTS = "APPOINTMENTS";
+    public static final String BILLS = "BILLS";
+    public static final String PENDING_PAYMENTS = "PENDING_PAYMENTS";
+    // Revenue of paid bills, kept in minor units (paise) so increments stay exact
+    public static final String REVENUE_MINOR = "REVENUE_MINOR";
+
+    @Id
+    @Column(length = 64)
+    private String counterName;
+
+    @Column(nullable = false)
+    private Long counterValue;
+
+    public DashboardCounter() {
+        this.counterValue = 0L;
+    }
+
+    public DashboardCounter(String counterName, Long counterValue) {
+        this.counterName = counterName;
+        this.counterValue = counterValue;
+    }
+
+    public String getCounterName() {
+        return counterName;
+    }
+
+    public void setCounterName(String counterName) {
+        this.counterName = counterName;
+    }
+
+    public Long getCounterValue() {
+        return counterValue;
+    }
+
+    public void setCounterValue(Long counterValue) {
+        this.counterValue = counterValue;
+    }
+}
@@ -1,9 +1,15 @@
 package com.hospital.management.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "doctors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "doctors", indexes = {
+    @Index(name = "idx_doctors_active_id", columnList = "active, id")
+})
 public class Doctor {
 
     @Id
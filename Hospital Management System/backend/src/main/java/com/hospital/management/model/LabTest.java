@@ -3,8 +3,13 @@ package com.hospital.management.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 
+import java.math.BigDecimal;
+
 @Entity
-@Table(name = "lab_tests")
+@Table(name = "lab_tests", indexes = {
+    @Index(name = "idx_lab_tests_active_id", columnList = "active, id"),
+    @Index(name = "idx_lab_tests_patient_active_id", columnList = "patient_id, active, id")
+})
 public class LabTest {
 
     @Id
@@ -14,8 +19,8 @@ public class LabTest {
     @Column(nullable = false)
     private String testName;
 
-    @Column(nullable = false)
-    private Double testFee;
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal testFee;
 
     @Column(length = 2000)
     private String result;
@@ -23,7 +28,7 @@ public class LabTest {
     @Column(nullable = false)
     private String status;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Patient patient;
@@ -34,10 +39,10 @@ public class LabTest {
     public LabTest() {
         this.active = true;
         this.status = "PENDING";
-        this.testFee = 0.0;
+        this.testFee = BigDecimal.ZERO;
     }
 
-    public LabTest(String testName, Double testFee, String result, String status, Patient patient) {
+    public LabTest(String testName, BigDecimal testFee, String result, String status, Patient patient) {
         this.testName = testName;
         this.testFee = testFee;
         this.result = result;
@@ -62,11 +67,11 @@ public class LabTest {
         this.testName = testName;
     }
 
-    public Double getTestFee() {
+    public BigDecimal getTestFee() {
         return testFee;
     }
 
-    public void setTestFee(Double testFee) {
+    public void setTestFee(BigDecimal testFee) {
         this.testFee = testFee;
     }
 
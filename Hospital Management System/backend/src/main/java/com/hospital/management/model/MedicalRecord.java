@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "medical_records")
+@Table(name = "medical_records", indexes = {
+    @Index(name = "idx_medical_records_patient_active_visit", columnList = "patient_id, active, visit_date, id"),
+    @Index(name = "idx_medical_records_active_visit", columnList = "active, visit_date")
+})
 public class MedicalRecord {
 
     @Id
@@ -24,7 +27,7 @@ public class MedicalRecord {
     @Column(nullable = false, length = 2000)
     private String treatment;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Patient patient;
@@ -1,9 +1,17 @@
 package com.hospital.management.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.math.BigDecimal;
 
 @Entity
-@Table(name = "medicines")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "medicines", indexes = {
+    @Index(name = "idx_medicines_active_id", columnList = "active, id")
+})
 public class Medicine {
 
     @Id
@@ -13,8 +21,8 @@ public class Medicine {
     @Column(nullable = false, unique = true)
     private String medicineName;
 
-    @Column(nullable = false)
-    private Double price;
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal price;
 
     @Column(nullable = false)
     private Integer stock;
@@ -25,10 +33,10 @@ public class Medicine {
     public Medicine() {
         this.active = true;
         this.stock = 0;
-        this.price = 0.0;
+        this.price = BigDecimal.ZERO;
     }
 
-    public Medicine(String medicineName, Double price, Integer stock) {
+    public Medicine(String medicineName, BigDecimal price, Integer stock) {
         this.medicineName = medicineName;
         this.price = price;
         this.stock = stock;
@@ -51,11 +59,11 @@ public class Medicine {
         this.medicineName = medicineName;
     }
 
-    public Double getPrice() {
+    public BigDecimal getPrice() {
         return price;
     }
 
-    public void setPrice(Double price) {
+    public void setPrice(BigDecimal price) {
         this.price = price;
     }
 
@@ -3,11 +3,19 @@ package com.hospital.management.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "patients")
+@Table(name = "patients", indexes = {
+    @Index(name = "idx_patients_active_id", columnList = "active, id")
+})
 public class Patient {
 
+    public static final String ID_GENERATOR = "patients";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Table-backed pooled ids (not IDENTITY) so Hibernate can batch inserts; see IdGeneratorInitializer
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "patient_id")
+    @TableGenerator(name = "patient_id", table = "id_generators", pkColumnName = "generator_name",
+        valueColumnName = "next_val", pkColumnValue = ID_GENERATOR, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
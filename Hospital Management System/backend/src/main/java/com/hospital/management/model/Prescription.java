@@ -3,9 +3,14 @@ package com.hospital.management.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "prescriptions")
+@Table(name = "prescriptions", indexes = {
+    @Index(name = "idx_prescriptions_active_id", columnList = "active, id")
+})
 public class Prescription {
 
     @Id
@@ -24,21 +29,30 @@ public class Prescription {
     @Column(length = 2000)
     private String notes;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Patient patient;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "doctor_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Doctor doctor;
 
-    @OneToOne(fetch = FetchType.EAGER)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "appointment_id", nullable = true)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Appointment appointment;
 
+    @OneToMany(mappedBy = "prescription", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
+    private List<PrescriptionItem> items = new ArrayList<>();
+
+    // Set once, when the pharmacy dispenses the items and stock is decremented. Only the
+    // conditional UPDATE in PrescriptionRepository writes it, so saving a stale copy cannot clear it
+    @Column(updatable = false)
+    private LocalDateTime dispensedAt;
+
     @Column(nullable = false)
     private Boolean active;
 
@@ -122,6 +136,33 @@ public class Prescription {
         this.appointment = appointment;
     }
 
+    public List<PrescriptionItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<PrescriptionItem> items) {
+        this.items = items;
+    }
+
+    /**
+     * Replace the medicine lines, keeping the collection instance Hibernate tracks for orphan removal
+     */
+    public void replaceItems(List<PrescriptionItem> newItems) {
+        items.clear();
+        for (PrescriptionItem item : newItems) {
+            item.setPrescription(this);
+            items.add(item);
+        }
+    }
+
+    public LocalDateTime getDispensedAt() {
+        return dispensedAt;
+    }
+
+    public void setDispensedAt(LocalDateTime dispensedAt) {
+        this.dispensedAt = dispensedAt;
+    }
+
     public Boolean getActive() {
         return active;
     }
@@ -0,0 +1,72 @@
+package com.hospital.management.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+
+/**
+ * One medicine line of a prescription: what the pharmacy dispenses and takes out of stock
+ */
+@Entity
+@Table(name = "prescription_items", indexes = {
+    @Index(name = "idx_prescription_items_prescription", columnList = "prescription_id, medicine_id")
+})
+public class PrescriptionItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "prescription_id", nullable = false)
+    @JsonIgnore
+    private Prescription prescription;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "medicine_id", nullable = false)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    private Medicine medicine;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    public PrescriptionItem() {
+    }
+
+    public PrescriptionItem(Medicine medicine, Integer quantity) {
+        this.medicine = medicine;
+        this.quantity = quantity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Prescription getPrescription() {
+        return prescription;
+    }
+
+    public void setPrescription(Prescription prescription) {
+        this.prescription = prescription;
+    }
+
+    public Medicine getMedicine() {
+        return medicine;
+    }
+
+    public void setMedicine(Medicine medicine) {
+        this.medicine = medicine;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,82 @@
+package com.hospital.management.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Bucket sizes the report rollups are kept at. Weeks are ISO weeks starting on Monday.
+ */
+public enum ReportGranularity {
+    DAY,
+    WEEK,
+    MONTH,
+    YEAR;
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    /**
+     * First day of the bucket containing the given date
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        switch (this) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            case YEAR:
+                return date.withDayOfYear(1);
+            default:
+                return date;
+        }
+    }
+
+    /**
+     * Last day of the bucket containing the given date
+     */
+    public LocalDate bucketEnd(LocalDate date) {
+        LocalDate start = bucketStart(date);
+        switch (this) {
+            case WEEK:
+                return start.plusWeeks(1).minusDays(1);
+            case MONTH:
+                return start.plusMonths(1).minusDays(1);
+            case YEAR:
+                return start.plusYears(1).minusDays(1);
+            default:
+                return start;
+        }
+    }
+
+    /**
+     * Display label for a bucket, e.g. 2024-03-15, 2024-W11, 2024-03 or 2024
+     */
+    public String label(LocalDate bucketStart) {
+        switch (this) {
+            case WEEK:
+                return String.format("%d-W%02d",
+                    bucketStart.get(IsoFields.WEEK_BASED_YEAR),
+                    bucketStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTH:
+                return bucketStart.format(MONTH_FORMAT);
+            case YEAR:
+                return String.valueOf(bucketStart.getYear());
+            default:
+                return bucketStart.toString();
+        }
+    }
+
+    public static ReportGranularity parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return MONTH;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid granularity: " + value + ". Use DAY, WEEK, MONTH or YEAR");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.hospital.management.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Pre-aggregated report figures per (metric, granularity, bucket). Rows are adjusted in the
+ * same transaction as the appointment or bill that changed them.
+ */
+@Entity
+@Table(name = "report_rollups")
+public class ReportRollup {
+
+    public static final String APPOINTMENTS = "APPOINTMENTS";
+    public static final String PAID_REVENUE = "PAID_REVENUE";
+
+    @EmbeddedId
+    private ReportRollupId id;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount;
+
+    // Kept in minor units (paise) so increments stay exact
+    @Column(name = "amount_minor", nullable = false)
+    private Long amountMinor;
+
+    public ReportRollup() {
+        this.itemCount = 0L;
+        this.amountMinor = 0L;
+    }
+
+    public ReportRollup(ReportRollupId id, Long itemCount, Long amountMinor) {
+        this.id = id;
+        this.itemCount = itemCount;
+        this.amountMinor = amountMinor;
+    }
+
+    public ReportRollupId getId() {
+        return id;
+    }
+
+    public void setId(ReportRollupId id) {
+        this.id = id;
+    }
+
+    public Long getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(Long itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public Long getAmountMinor() {
+        return amountMinor;
+    }
+
+    public void setAmountMinor(Long amountMinor) {
+        this.amountMinor = amountMinor;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hospital.management.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class ReportRollupId implements Serializable {
+
+    @Column(length = 32)
+    private String metric;
+
+    @Column(length = 8)
+    private String granularity;
+
+    @Column(name = "bucket_start")
+    private LocalDate bucketStart;
+
+    public ReportRollupId() {
+    }
+
+    public ReportRollupId(String metric, String granularity, LocalDate bucketStart) {
+        this.metric = metric;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDate bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReportRollupId)) {
+            return false;
+        }
+        ReportRollupId that = (ReportRollupId) o;
+        return Objects.equals(metric, that.metric)
+            && Objects.equals(granularity, that.granularity)
+            && Objects.equals(bucketStart, that.bucketStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(metric, granularity, bucketStart);
+    }
+}
@@ -0,0 +1,26 @@
+package com.hospital.management.model;
+
+import java.util.Locale;
+
+/**
+ * Reports that can be run as background jobs. The grouped ones are computed from the base
+ * tables rather than the rollups, so they are the slow ones on multi-year ranges.
+ */
+public enum ReportType {
+    APPOINTMENTS,
+    REVENUE,
+    APPOINTMENTS_BY_DOCTOR,
+    REVENUE_BY_PAYMENT_MODE;
+
+    public static ReportType parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Report type is required");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid report type: " + value
+                + ". Use APPOINTMENTS, REVENUE, APPOINTMENTS_BY_DOCTOR or REVENUE_BY_PAYMENT_MODE");
+        }
+    }
+}
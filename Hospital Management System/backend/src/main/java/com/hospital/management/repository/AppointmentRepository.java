@@ -1,26 +1,110 @@
 package com.hospital.management.repository;
 
+import com.hospital.management.dto.AppointmentSummary;
 import com.hospital.management.model.Appointment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
     
-    List<Appointment> findByActiveTrue();
+    @Query("SELECT new com.hospital.management.dto.AppointmentSummary(a.id, a.appointmentDate, a.appointmentTime, a.reason, a.status, " +
+           "p.id, p.patientName, d.id, d.doctorName, d.specialization) " +
+           "FROM Appointment a JOIN a.patient p JOIN a.doctor d " +
+           "WHERE a.active = true ORDER BY a.id")
+    List<AppointmentSummary> findActiveSummaries();
     
+    /**
+     * Same rows as findActiveSummaries, read through a cursor for streamed list responses.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.hospital.management.dto.AppointmentSummary(a.id, a.appointmentDate, a.appointmentTime, a.reason, a.status, " +
+           "p.id, p.patientName, d.id, d.doctorName, d.specialization) " +
+           "FROM Appointment a JOIN a.patient p JOIN a.doctor d " +
+           "WHERE a.active = true ORDER BY a.id")
+    Stream<AppointmentSummary> streamActiveSummaries();
+    
+    @Query("SELECT new com.hospital.management.dto.AppointmentSummary(a.id, a.appointmentDate, a.appointmentTime, a.reason, a.status, " +
+           "p.id, p.patientName, d.id, d.doctorName, d.specialization) " +
+           "FROM Appointment a JOIN a.patient p JOIN a.doctor d " +
+           "WHERE a.active = true AND a.id > :afterId ORDER BY a.id")
+    List<AppointmentSummary> findActiveSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    @EntityGraph(attributePaths = {"patient", "doctor"})
     Optional<Appointment> findByIdAndActiveTrue(Long id);
     
     long countByActiveTrue();
     
-    @Query(value = "SELECT DATE_FORMAT(a.appointment_date, '%Y-%m') as month, COUNT(a.id) as count " +
-           "FROM appointments a WHERE a.active = true " +
-           "GROUP BY DATE_FORMAT(a.appointment_date, '%Y-%m') " +
-           "ORDER BY DATE_FORMAT(a.appointment_date, '%Y-%m')", nativeQuery = true)
-    List<Object[]> getMonthlyAppointmentCountsRaw();
+    /**
+     * Forward-only, read-only cursor over active appointments in a date range.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Appointment a JOIN FETCH a.patient JOIN FETCH a.doctor " +
+           "WHERE a.active = true AND a.appointmentDate >= :from AND a.appointmentDate <= :to " +
+           "ORDER BY a.id")
+    Stream<Appointment> streamActiveByAppointmentDateBetween(@Param("from") LocalDate from,
+                                                             @Param("to") LocalDate to);
+    
+    /**
+     * Active appointments per calendar day, used to rebuild the report rollups
+     */
+    @Query("SELECT a.appointmentDate, COUNT(a) FROM Appointment a " +
+           "WHERE a.active = true AND a.appointmentDate IS NOT NULL " +
+           "GROUP BY a.appointmentDate")
+    List<Object[]> countActiveByAppointmentDate();
+    
+    /**
+     * Active appointments per doctor and calendar day in [from, to], for the per-doctor reports
+     */
+    @Query("SELECT a.doctor.id, a.doctor.doctorName, a.appointmentDate, COUNT(a) FROM Appointment a " +
+           "WHERE a.active = true AND a.appointmentDate BETWEEN :from AND :to " +
+           "GROUP BY a.doctor.id, a.doctor.doctorName, a.appointmentDate")
+    List<Object[]> countActiveByDoctorAndDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    @Query("SELECT a.bookedSlot FROM Appointment a " +
+           "WHERE a.doctor.id = :doctorId AND a.appointmentDate = :date AND a.bookedSlot IS NOT NULL")
+    List<Integer> findBookedSlots(@Param("doctorId") Long doctorId, @Param("date") LocalDate date);
+    
+    /**
+     * Booked slots of several doctors over a date range as (doctor id, date, slot); answered from the slot unique key
+     */
+    @Query("SELECT a.doctor.id, a.appointmentDate, a.bookedSlot FROM Appointment a " +
+           "WHERE a.doctor.id IN :doctorIds AND a.appointmentDate >= :from AND a.appointmentDate <= :to " +
+           "AND a.bookedSlot IS NOT NULL")
+    List<Object[]> findBookedSlotsBetween(@Param("doctorIds") Collection<Long> doctorIds,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+    
+    /**
+     * Live upcoming appointments that predate slot booking: id, doctor id, date and time
+     */
+    @Query("SELECT a.id, a.doctor.id, a.appointmentDate, a.appointmentTime FROM Appointment a " +
+           "WHERE a.active = true AND a.bookedSlot IS NULL AND a.status <> 'CANCELLED' " +
+           "AND a.appointmentDate >= :from ORDER BY a.id")
+    List<Object[]> findUnslottedFrom(@Param("from") LocalDate from);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE Appointment a SET a.bookedSlot = :slot WHERE a.id = :id")
+    int assignBookedSlot(@Param("id") Long id, @Param("slot") Integer slot);
 }
-
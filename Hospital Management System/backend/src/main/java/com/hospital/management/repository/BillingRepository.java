@@ -1,32 +1,88 @@
 package com.hospital.management.repository;
 
+import com.hospital.management.dto.BillingSummary;
 import com.hospital.management.model.Billing;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BillingRepository extends JpaRepository<Billing, Long> {
     
-    List<Billing> findByActiveTrue();
+    @Query("SELECT new com.hospital.management.dto.BillingSummary(b.id, b.billDate, b.consultationFee, b.treatmentFee, b.medicineFee, " +
+           "b.totalAmount, b.paymentMode, b.paymentStatus, p.id, p.patientName, a.id, a.appointmentDate, a.appointmentTime) " +
+           "FROM Billing b JOIN b.patient p LEFT JOIN b.appointment a " +
+           "WHERE b.active = true ORDER BY b.id")
+    List<BillingSummary> findActiveSummaries();
     
+    /**
+     * Same rows as findActiveSummaries, read through a cursor for streamed list responses.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.hospital.management.dto.BillingSummary(b.id, b.billDate, b.consultationFee, b.treatmentFee, b.medicineFee, " +
+           "b.totalAmount, b.paymentMode, b.paymentStatus, p.id, p.patientName, a.id, a.appointmentDate, a.appointmentTime) " +
+           "FROM Billing b JOIN b.patient p LEFT JOIN b.appointment a " +
+           "WHERE b.active = true ORDER BY b.id")
+    Stream<BillingSummary> streamActiveSummaries();
+    
+    @Query("SELECT new com.hospital.management.dto.BillingSummary(b.id, b.billDate, b.consultationFee, b.treatmentFee, b.medicineFee, " +
+           "b.totalAmount, b.paymentMode, b.paymentStatus, p.id, p.patientName, a.id, a.appointmentDate, a.appointmentTime) " +
+           "FROM Billing b JOIN b.patient p LEFT JOIN b.appointment a " +
+           "WHERE b.active = true AND b.id > :afterId ORDER BY b.id")
+    List<BillingSummary> findActiveSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    @EntityGraph(attributePaths = {"patient", "appointment", "appointment.patient", "appointment.doctor"})
     Optional<Billing> findByIdAndActiveTrue(Long id);
     
     long countByActiveTrue();
     
     @Query("SELECT COALESCE(SUM(b.totalAmount), 0) FROM Billing b WHERE b.active = true AND b.paymentStatus = 'PAID'")
-    Double getTotalRevenue();
+    BigDecimal getTotalRevenue();
     
     @Query("SELECT COUNT(b) FROM Billing b WHERE b.active = true AND b.paymentStatus = 'PENDING'")
     Long countPendingPayments();
     
-    @Query(value = "SELECT DATE_FORMAT(b.bill_date, '%Y-%m') as month, COALESCE(SUM(b.total_amount), 0) as totalRevenue " +
-           "FROM billings b WHERE b.active = true AND b.payment_status = 'PAID' " +
-           "GROUP BY DATE_FORMAT(b.bill_date, '%Y-%m') " +
-           "ORDER BY DATE_FORMAT(b.bill_date, '%Y-%m')", nativeQuery = true)
-    List<Object[]> getMonthlyRevenueRaw();
+    /**
+     * Every dashboard figure in one round trip: billing totals come from conditional sums
+     * over active bills, the other counts from scalar subqueries
+     */
+    @Query(value = "SELECT " +
+           "(SELECT COUNT(*) FROM patients p WHERE p.active = true) AS total_patients, " +
+           "(SELECT COUNT(*) FROM doctors d WHERE d.active = true) AS total_doctors, " +
+           "(SELECT COUNT(*) FROM appointments a WHERE a.active = true) AS total_appointments, " +
+           "COUNT(b.id) AS total_bills, " +
+           "COALESCE(SUM(CASE WHEN b.payment_status = 'PAID' THEN b.total_amount ELSE 0 END), 0) AS total_revenue, " +
+           "COALESCE(SUM(CASE WHEN b.payment_status = 'PENDING' THEN 1 ELSE 0 END), 0) AS pending_payments " +
+           "FROM billings b WHERE b.active = true", nativeQuery = true)
+    List<Object[]> getDashboardSummaryRaw();
+    
+    /**
+     * Paid active bills per calendar day with their total, used to rebuild the report rollups
+     */
+    @Query("SELECT b.billDate, COUNT(b), COALESCE(SUM(b.totalAmount), 0) FROM Billing b " +
+           "WHERE b.active = true AND b.paymentStatus = 'PAID' AND b.billDate IS NOT NULL " +
+           "GROUP BY b.billDate")
+    List<Object[]> sumPaidByBillDate();
+    
+    /**
+     * Paid active bills per payment mode and calendar day in [from, to], for the per-payment-mode reports
+     */
+    @Query("SELECT b.paymentMode, b.billDate, COUNT(b), COALESCE(SUM(b.totalAmount), 0) FROM Billing b " +
+           "WHERE b.active = true AND b.paymentStatus = 'PAID' AND b.billDate BETWEEN :from AND :to " +
+           "GROUP BY b.paymentMode, b.billDate")
+    List<Object[]> sumPaidByPaymentModeAndDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
 
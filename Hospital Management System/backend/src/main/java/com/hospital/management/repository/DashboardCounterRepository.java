@@ -0,0 +1,24 @@
+package com.hospital.management.repository;
+
+import com.hospital.management.model.DashboardCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, String> {
+    
+    @Modifying
+    @Query("UPDATE DashboardCounter c SET c.counterValue = c.counterValue + :delta WHERE c.counterName = :name")
+    int addToCounter(@Param("name") String name, @Param("delta") long delta);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM DashboardCounter c")
+    List<DashboardCounter> findAllForUpdate();
+}
@@ -1,18 +1,41 @@
 package com.hospital.management.repository;
 
+import com.hospital.management.dto.DoctorAvailability;
 import com.hospital.management.model.Doctor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Single doctors are served from the entity cache, which is invalidated whenever the table is
+ * written through Hibernate. List lookups always go to the database.
+ */
 @Repository
 public interface DoctorRepository extends JpaRepository<Doctor, Long> {
     
     List<Doctor> findByActiveTrue();
     
-    Optional<Doctor> findByIdAndActiveTrue(Long id);
+    List<Doctor> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    /**
+     * By id, so the lookup goes through the entity cache
+     */
+    default Optional<Doctor> findByIdAndActiveTrue(Long id) {
+        return findById(id).filter(doctor -> Boolean.TRUE.equals(doctor.getActive()));
+    }
+    
+    /**
+     * Active doctors of a specialization, ignoring case, as availability entries still without days;
+     * a projection, so no Doctor entities are built for a list that only needs id and name
+     */
+    @Query("SELECT new com.hospital.management.dto.DoctorAvailability(d.id, d.doctorName, d.specialization) " +
+           "FROM Doctor d WHERE UPPER(d.specialization) = UPPER(:specialization) AND d.active = true ORDER BY d.id")
+    List<DoctorAvailability> findAvailabilityBySpecialization(@Param("specialization") String specialization);
     
     long countByActiveTrue();
 }
@@ -1,19 +1,51 @@
 package com.hospital.management.repository;
 
+import com.hospital.management.dto.LabTestSummary;
 import com.hospital.management.model.LabTest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LabTestRepository extends JpaRepository<LabTest, Long> {
     
-    List<LabTest> findByActiveTrue();
+    @Query("SELECT new com.hospital.management.dto.LabTestSummary(t.id, t.testName, t.testFee, t.result, t.status, " +
+           "p.id, p.patientName) " +
+           "FROM LabTest t JOIN t.patient p " +
+           "WHERE t.active = true ORDER BY t.id")
+    List<LabTestSummary> findActiveSummaries();
     
+    /**
+     * Same rows as findActiveSummaries, read through a cursor for streamed list responses.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.hospital.management.dto.LabTestSummary(t.id, t.testName, t.testFee, t.result, t.status, " +
+           "p.id, p.patientName) " +
+           "FROM LabTest t JOIN t.patient p " +
+           "WHERE t.active = true ORDER BY t.id")
+    Stream<LabTestSummary> streamActiveSummaries();
+    
+    @Query("SELECT new com.hospital.management.dto.LabTestSummary(t.id, t.testName, t.testFee, t.result, t.status, " +
+           "p.id, p.patientName) " +
+           "FROM LabTest t JOIN t.patient p " +
+           "WHERE t.active = true AND t.id > :afterId ORDER BY t.id")
+    List<LabTestSummary> findActiveSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    @EntityGraph(attributePaths = {"patient"})
     Optional<LabTest> findByIdAndActiveTrue(Long id);
     
+    @EntityGraph(attributePaths = {"patient"})
     List<LabTest> findByPatientIdAndActiveTrue(Long patientId);
 }
 
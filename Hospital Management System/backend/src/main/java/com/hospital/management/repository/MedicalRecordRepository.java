@@ -1,16 +1,34 @@
 package com.hospital.management.repository;
 
 import com.hospital.management.model.MedicalRecord;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface MedicalRecordRepository extends JpaRepository<MedicalRecord, Long> {
     
+    @EntityGraph(attributePaths = {"patient"})
     List<MedicalRecord> findByPatientIdAndActiveTrueOrderByVisitDateDesc(Long patientId);
     
+    @EntityGraph(attributePaths = {"patient"})
     List<MedicalRecord> findByActiveTrueOrderByVisitDateDesc();
+    
+    @EntityGraph(attributePaths = {"patient"})
+    List<MedicalRecord> findByPatientIdAndActiveTrueOrderByVisitDateDescIdDesc(Long patientId, Limit limit);
+    
+    @EntityGraph(attributePaths = {"patient"})
+    @Query("SELECT r FROM MedicalRecord r WHERE r.patient.id = :patientId AND r.active = true " +
+           "AND (r.visitDate < :visitDate OR (r.visitDate = :visitDate AND r.id < :id)) " +
+           "ORDER BY r.visitDate DESC, r.id DESC")
+    List<MedicalRecord> findPatientRecordsBefore(@Param("patientId") Long patientId,
+                                                 @Param("visitDate") LocalDate visitDate,
+                                                 @Param("id") Long id,
+                                                 Limit limit);
 }
-
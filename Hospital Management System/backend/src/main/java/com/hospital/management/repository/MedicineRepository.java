@@ -1,19 +1,49 @@
 package com.hospital.management.repository;
 
 import com.hospital.management.model.Medicine;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Single medicines go through the entity cache and catalogue lists to the database; region size
+ * and expiry are set in ehcache.xml.
+ */
 @Repository
 public interface MedicineRepository extends JpaRepository<Medicine, Long> {
     
     List<Medicine> findByActiveTrue();
     
-    Optional<Medicine> findByIdAndActiveTrue(Long id);
+    List<Medicine> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    /**
+     * By id, so the lookup goes through the entity cache
+     */
+    default Optional<Medicine> findByIdAndActiveTrue(Long id) {
+        return findById(id).filter(medicine -> Boolean.TRUE.equals(medicine.getActive()));
+    }
     
     Optional<Medicine> findByMedicineNameAndActiveTrue(String medicineName);
+    
+    /**
+     * Name and stock of every active medicine, for the suggestion index
+     */
+    @Query("SELECT m.id, m.medicineName, m.stock FROM Medicine m WHERE m.active = true")
+    List<Object[]> findActiveNamesAndStock();
+    
+    /**
+     * Take quantity out of stock in one conditional statement: it only row-locks this medicine,
+     * and matches nothing (returns 0) if the stock would go negative
+     */
+    @Modifying
+    @Query("UPDATE Medicine m SET m.stock = m.stock - :quantity " +
+           "WHERE m.id = :id AND m.active = true AND m.stock >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
 
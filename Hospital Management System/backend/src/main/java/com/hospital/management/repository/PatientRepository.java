@@ -1,19 +1,44 @@
 package com.hospital.management.repository;
 
 import com.hospital.management.model.Patient;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PatientRepository extends JpaRepository<Patient, Long> {
     
     List<Patient> findByActiveTrue();
     
+    /**
+     * Forward-only, read-only cursor over active patients, for streamed list responses.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Patient p WHERE p.active = true ORDER BY p.id")
+    Stream<Patient> streamActive();
+    
+    List<Patient> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
     Optional<Patient> findByIdAndActiveTrue(Long id);
     
     long countByActiveTrue();
+    
+    /**
+     * Name and contact number of every active patient, for the search index
+     */
+    @Query("SELECT p.id, p.patientName, p.contactNumber FROM Patient p WHERE p.active = true")
+    List<Object[]> findActiveNamesAndContacts();
 }
 
@@ -1,19 +1,75 @@
 package com.hospital.management.repository;
 
+import com.hospital.management.dto.PrescriptionSummary;
 import com.hospital.management.model.Prescription;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PrescriptionRepository extends JpaRepository<Prescription, Long> {
     
-    List<Prescription> findByActiveTrue();
+    @Query("SELECT new com.hospital.management.dto.PrescriptionSummary(r.id, r.prescriptionDate, r.diagnosis, r.medicines, r.notes, " +
+           "p.id, p.patientName, d.id, d.doctorName, d.specialization, a.id, a.appointmentDate, a.appointmentTime) " +
+           "FROM Prescription r JOIN r.patient p JOIN r.doctor d LEFT JOIN r.appointment a " +
+           "WHERE r.active = true ORDER BY r.id")
+    List<PrescriptionSummary> findActiveSummaries();
     
+    /**
+     * Same rows as findActiveSummaries, read through a cursor for streamed list responses.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.hospital.management.dto.PrescriptionSummary(r.id, r.prescriptionDate, r.diagnosis, r.medicines, r.notes, " +
+           "p.id, p.patientName, d.id, d.doctorName, d.specialization, a.id, a.appointmentDate, a.appointmentTime) " +
+           "FROM Prescription r JOIN r.patient p JOIN r.doctor d LEFT JOIN r.appointment a " +
+           "WHERE r.active = true ORDER BY r.id")
+    Stream<PrescriptionSummary> streamActiveSummaries();
+    
+    @Query("SELECT new com.hospital.management.dto.PrescriptionSummary(r.id, r.prescriptionDate, r.diagnosis, r.medicines, r.notes, " +
+           "p.id, p.patientName, d.id, d.doctorName, d.specialization, a.id, a.appointmentDate, a.appointmentTime) " +
+           "FROM Prescription r JOIN r.patient p JOIN r.doctor d LEFT JOIN r.appointment a " +
+           "WHERE r.active = true AND r.id > :afterId ORDER BY r.id")
+    List<PrescriptionSummary> findActiveSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    @EntityGraph(attributePaths = {"patient", "doctor", "appointment", "appointment.patient", "appointment.doctor", "items", "items.medicine"})
     Optional<Prescription> findByIdAndActiveTrue(Long id);
     
+    /**
+     * Claim a prescription for dispensing; returns 0 if it is missing, inactive or already dispensed
+     */
+    @Modifying
+    @Query("UPDATE Prescription r SET r.dispensedAt = :dispensedAt " +
+           "WHERE r.id = :id AND r.active = true AND r.dispensedAt IS NULL")
+    int markDispensed(@Param("id") Long id, @Param("dispensedAt") LocalDateTime dispensedAt);
+    
+    /**
+     * Lock the prescription row until the transaction ends, so a dispense waits for the edit; empty
+     * if it is missing, inactive or already dispensed (a locking read sees the latest committed row)
+     */
+    @Query(value = "SELECT id FROM prescriptions WHERE id = :id AND active = true AND dispensed_at IS NULL FOR UPDATE",
+           nativeQuery = true)
+    Optional<Long> lockUndispensed(@Param("id") Long id);
+    
+    /**
+     * Quantity per medicine across the prescription's lines, in medicine id order
+     */
+    @Query("SELECT i.medicine.id, SUM(i.quantity) FROM PrescriptionItem i WHERE i.prescription.id = :id " +
+           "GROUP BY i.medicine.id ORDER BY i.medicine.id")
+    List<Object[]> sumItemQuantitiesByMedicine(@Param("id") Long id);
+    
     long countByActiveTrue();
 }
 
@@ -0,0 +1,48 @@
+package com.hospital.management.repository;
+
+import com.hospital.management.model.ReportRollup;
+import com.hospital.management.model.ReportRollupId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ReportRollupRepository extends JpaRepository<ReportRollup, ReportRollupId> {
+    
+    /**
+     * Add to a bucket, creating it on first use. Runs as a single upsert so concurrent
+     * writers touching the same bucket serialize on the row instead of racing an insert.
+     * Declares the table it writes; without it Hibernate clears every second-level cache region.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "report_rollups"))
+    @Query(value = "INSERT INTO report_rollups (metric, granularity, bucket_start, item_count, amount_minor) " +
+           "VALUES (:metric, :granularity, :bucketStart, :countDelta, :amountDelta) " +
+           "ON DUPLICATE KEY UPDATE item_count = item_count + :countDelta, amount_minor = amount_minor + :amountDelta",
+           nativeQuery = true)
+    int addToBucket(@Param("metric") String metric,
+                    @Param("granularity") String granularity,
+                    @Param("bucketStart") LocalDate bucketStart,
+                    @Param("countDelta") long countDelta,
+                    @Param("amountDelta") long amountDelta);
+    
+    @Query("SELECT r FROM ReportRollup r WHERE r.id.metric = :metric AND r.id.granularity = :granularity " +
+           "AND r.id.bucketStart >= :from AND r.id.bucketStart <= :to AND r.itemCount <> 0 " +
+           "ORDER BY r.id.bucketStart")
+    List<ReportRollup> findBuckets(@Param("metric") String metric,
+                                   @Param("granularity") String granularity,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+    
+    @Modifying
+    @Query("DELETE FROM ReportRollup r")
+    int deleteAllRollups();
+}
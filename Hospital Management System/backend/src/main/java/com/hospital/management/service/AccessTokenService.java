@@ -0,0 +1,16 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.AuthenticatedUser;
+import com.hospital.management.model.User;
+
+public interface AccessTokenService {
+
+    String issueToken(User user);
+
+    /**
+     * Returns null when the token is malformed, forged or expired
+     */
+    AuthenticatedUser verifyToken(String token);
+
+    long getTokenTtlSeconds();
+}
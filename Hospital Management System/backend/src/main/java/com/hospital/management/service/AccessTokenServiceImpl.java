@@ -0,0 +1,121 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.AuthenticatedUser;
+import com.hospital.management.model.User;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Stateless HMAC-SHA256 access tokens: "v1.<payload>.<signature>", both parts base64url.
+ * The payload is "userId:role:expiresAt" (epoch seconds), so verifying a token needs
+ * neither JSON parsing nor a users table lookup.
+ *
+ * A deactivated user keeps access until their token expires; keep the TTL short.
+ */
+@Service
+public class AccessTokenServiceImpl implements AccessTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenServiceImpl.class);
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${auth.token.secret:}")
+    private String secret;
+
+    @Value("${auth.token.ttl-minutes:480}")
+    private long ttlMinutes;
+
+    private SecretKeySpec key;
+    // Initialised Macs are reused across requests; a pool rather than a ThreadLocal so
+    // short-lived (e.g. virtual) threads do not each build their own
+    private final ConcurrentLinkedQueue<Mac> macs = new ConcurrentLinkedQueue<>();
+
+    @PostConstruct
+    public void initialize() {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("auth.token.secret is not set; signing with a random key, so tokens will not "
+                + "survive a restart or verify on other nodes");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("auth.token.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+            }
+        }
+        key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    @Override
+    public String issueToken(User user) {
+        long expiresAt = System.currentTimeMillis() / 1000 + getTokenTtlSeconds();
+        String payload = ENCODER.encodeToString((user.getId() + ":" + user.getRole().toUpperCase(Locale.ROOT)
+            + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+        return VERSION + "." + payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    @Override
+    public AuthenticatedUser verifyToken(String token) {
+        if (token == null || !token.startsWith(VERSION + ".")) {
+            return null;
+        }
+        int payloadStart = VERSION.length() + 1;
+        int separator = token.indexOf('.', payloadStart);
+        if (separator < 0) {
+            return null;
+        }
+        String payload = token.substring(payloadStart, separator);
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            // Constant-time comparison, so the signature cannot be guessed byte by byte
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return null;
+            }
+            String[] claims = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(":");
+            if (claims.length != 3 || Long.parseLong(claims[2]) <= System.currentTimeMillis() / 1000) {
+                return null;
+            }
+            return new AuthenticatedUser(Long.parseLong(claims[0]), claims[1]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public long getTokenTtlSeconds() {
+        return ttlMinutes * 60;
+    }
+
+    private byte[] sign(String payload) {
+        Mac mac = macs.poll();
+        try {
+            if (mac == null) {
+                mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+            }
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            macs.offer(mac);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot compute token signature", e);
+        }
+    }
+}
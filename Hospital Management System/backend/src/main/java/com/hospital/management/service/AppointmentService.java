@@ -1,19 +1,28 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.AppointmentSummary;
 import com.hospital.management.model.Appointment;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface AppointmentService {
     
     Appointment createAppointment(Appointment appointment);
     
-    List<Appointment> getAllAppointments();
+    List<AppointmentSummary> getAllAppointments();
+    
+    void streamAllAppointments(Consumer<AppointmentSummary> sink);
+    
+    List<AppointmentSummary> getAppointmentsAfter(Long afterId, int limit);
     
     Appointment getAppointmentById(Long id);
     
     Appointment updateAppointment(Long id, Appointment appointment);
     
     void deleteAppointment(Long id);
+    
+    long exportAppointments(LocalDate from, LocalDate to, Consumer<Appointment> sink);
 }
 
@@ -1,30 +1,81 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.AppointmentSummary;
+import com.hospital.management.event.AppointmentChangedEvent;
+import com.hospital.management.exception.SlotUnavailableException;
 import com.hospital.management.model.Appointment;
 import com.hospital.management.repository.AppointmentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class AppointmentServiceImpl implements AppointmentService {
 
+    // Bounds of the MySQL DATE type, used when an export range is left open
+    private static final LocalDate EXPORT_MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate EXPORT_MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final int EXPORT_CLEAR_INTERVAL = 1000;
+
     @Autowired
     private AppointmentRepository appointmentRepository;
 
+    @Autowired
+    private SlotBookingService slotBookingService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
+    @Transactional
     public Appointment createAppointment(Appointment appointment) {
         appointment.setActive(true);
         if (appointment.getStatus() == null || appointment.getStatus().trim().isEmpty()) {
             appointment.setStatus("SCHEDULED");
         }
-        return appointmentRepository.save(appointment);
+        Integer slot = resolveBookedSlot(appointment);
+        if (slot != null) {
+            slotBookingService.reserve(appointment.getDoctor().getId(), appointment.getAppointmentDate(), slot);
+        }
+        appointment.setBookedSlot(slot);
+        Appointment savedAppointment = saveBooking(appointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(null, new AppointmentChangedEvent.Snapshot(savedAppointment)));
+        return savedAppointment;
     }
 
     @Override
-    public List<Appointment> getAllAppointments() {
-        return appointmentRepository.findByActiveTrue();
+    public List<AppointmentSummary> getAllAppointments() {
+        return appointmentRepository.findActiveSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllAppointments(Consumer<AppointmentSummary> sink) {
+        try (Stream<AppointmentSummary> appointments = appointmentRepository.streamActiveSummaries()) {
+            appointments.forEach(sink);
+        }
+    }
+
+    @Override
+    public List<AppointmentSummary> getAppointmentsAfter(Long afterId, int limit) {
+        return appointmentRepository.findActiveSummariesAfter(afterId, Limit.of(limit));
     }
 
     @Override
@@ -34,6 +85,7 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
+    @Transactional
     public Appointment updateAppointment(Long id, Appointment appointment) {
         Appointment existingAppointment = appointmentRepository.findByIdAndActiveTrue(id)
                 .orElse(null);
@@ -42,6 +94,27 @@ public class AppointmentServiceImpl implements AppointmentService {
             return null;
         }
         
+        AppointmentChangedEvent.Snapshot before = new AppointmentChangedEvent.Snapshot(existingAppointment);
+        Long previousDoctorId = existingAppointment.getDoctor().getId();
+        LocalDate previousDate = existingAppointment.getAppointmentDate();
+        Integer previousSlot = existingAppointment.getBookedSlot();
+        
+        // Move the booking only if doctor, day or slot changed. Done before the entity is touched:
+        // the slot lookups would otherwise flush it half-moved, with the new day and the old slot
+        Integer slot = resolveBookedSlot(appointment);
+        Long doctorId = appointment.getDoctor() != null ? appointment.getDoctor().getId() : previousDoctorId;
+        LocalDate date = appointment.getAppointmentDate();
+        boolean sameBooking = Objects.equals(slot, previousSlot)
+            && doctorId.equals(previousDoctorId) && Objects.equals(date, previousDate);
+        if (!sameBooking) {
+            if (slot != null) {
+                slotBookingService.reserve(doctorId, date, slot);
+            }
+            if (previousSlot != null) {
+                slotBookingService.release(previousDoctorId, previousDate, previousSlot);
+            }
+        }
+        
         existingAppointment.setAppointmentDate(appointment.getAppointmentDate());
         existingAppointment.setAppointmentTime(appointment.getAppointmentTime());
         existingAppointment.setReason(appointment.getReason());
@@ -55,18 +128,85 @@ public class AppointmentServiceImpl implements AppointmentService {
             existingAppointment.setDoctor(appointment.getDoctor());
         }
         
-        return appointmentRepository.save(existingAppointment);
+        existingAppointment.setBookedSlot(slot);
+        
+        Appointment savedAppointment = saveBooking(existingAppointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(before, new AppointmentChangedEvent.Snapshot(savedAppointment)));
+        return savedAppointment;
     }
 
     @Override
+    @Transactional
     public void deleteAppointment(Long id) {
         Appointment appointment = appointmentRepository.findByIdAndActiveTrue(id)
                 .orElse(null);
         
         if (appointment != null) {
+            AppointmentChangedEvent.Snapshot before = new AppointmentChangedEvent.Snapshot(appointment);
+            if (appointment.getBookedSlot() != null) {
+                slotBookingService.release(appointment.getDoctor().getId(), appointment.getAppointmentDate(), appointment.getBookedSlot());
+            }
             appointment.setActive(false);
+            appointment.setBookedSlot(null);
             appointmentRepository.save(appointment);
+            eventPublisher.publishEvent(new AppointmentChangedEvent(before, null));
         }
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAppointments(LocalDate from, LocalDate to, Consumer<Appointment> sink) {
+        long exported = 0;
+        try (Stream<Appointment> appointments = appointmentRepository.streamActiveByAppointmentDateBetween(
+                from != null ? from : EXPORT_MIN_DATE,
+                to != null ? to : EXPORT_MAX_DATE)) {
+            Iterator<Appointment> iterator = appointments.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                exported++;
+                // Detach rows already written so the persistence context does not grow with the export
+                if (exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * Slot an appointment occupies, or null for a cancelled appointment, which holds no slot
+     */
+    private Integer resolveBookedSlot(Appointment appointment) {
+        if ("CANCELLED".equals(appointment.getStatus())) {
+            return null;
+        }
+        return slotBookingService.resolveSlot(appointment.getAppointmentTime());
+    }
+
+    /**
+     * Write the appointment immediately so a slot taken on another node surfaces here as a
+     * unique-key violation rather than at commit
+     */
+    private Appointment saveBooking(Appointment appointment) {
+        try {
+            return appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (!isSlotConflict(e) || appointment.getBookedSlot() == null) {
+                throw e;
+            }
+            slotBookingService.markBooked(appointment.getDoctor().getId(), appointment.getAppointmentDate(), appointment.getBookedSlot());
+            throw new SlotUnavailableException("Doctor already has an appointment at "
+                + appointment.getAppointmentTime() + " on " + appointment.getAppointmentDate(), e);
+        }
+    }
+
+    private static boolean isSlotConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(Appointment.SLOT_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
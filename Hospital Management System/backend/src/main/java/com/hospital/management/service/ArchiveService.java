@@ -0,0 +1,28 @@
+package com.hospital.management.service;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ArchiveService {
+
+    /**
+     * Tables whose inactive rows are moved to a "<table>_archive" copy
+     */
+    List<String> ARCHIVED_TABLES = List.of(
+        "prescriptions", "prescription_items", "billings", "lab_tests", "medical_records",
+        "appointments", "patients", "doctors", "medicines"
+    );
+
+    String ARCHIVE_SUFFIX = "_archive";
+
+    /**
+     * Move every inactive row no live row still references into its archive table,
+     * in chunks of one transaction each; returns the rows moved per table
+     */
+    Map<String, Integer> archive();
+
+    /**
+     * The row with this id whether active, soft-deleted or already archived; null if there is none
+     */
+    <T> T findIncludingArchived(Class<T> type, Long id);
+}
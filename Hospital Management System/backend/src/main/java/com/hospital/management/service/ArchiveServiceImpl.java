@@ -0,0 +1,292 @@
+package com.hospital.management.service;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.PluralAttribute;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves soft-deleted rows out of the live tables, so their scans and indexes only carry live data.
+ * Tables are drained children first and a row only moves once no live row references it, which
+ * keeps the live foreign keys intact; a reference added while a chunk is moving fails that chunk's
+ * delete and the rows stay put until the next run. Prescription items have no active flag of their
+ * own and move with their prescription.
+ */
+@Service
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveServiceImpl.class);
+
+    // Drain order: every table comes before the tables it references
+    private static final List<ArchivedTable> TABLES = List.of(
+        new ArchivedTable("prescriptions").movingChildren("prescription_items", "prescription_id"),
+        new ArchivedTable("billings"),
+        new ArchivedTable("lab_tests"),
+        new ArchivedTable("medical_records"),
+        new ArchivedTable("appointments")
+            .referencedBy("billings", "appointment_id")
+            .referencedBy("prescriptions", "appointment_id"),
+        new ArchivedTable("patients")
+            .referencedBy("appointments", "patient_id")
+            .referencedBy("billings", "patient_id")
+            .referencedBy("prescriptions", "patient_id")
+            .referencedBy("lab_tests", "patient_id")
+            .referencedBy("medical_records", "patient_id"),
+        new ArchivedTable("doctors")
+            .referencedBy("appointments", "doctor_id")
+            .referencedBy("prescriptions", "doctor_id"),
+        new ArchivedTable("medicines")
+            .referencedBy("prescription_items", "medicine_id")
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${archive.chunk-size:500}")
+    private int chunkSize;
+
+    // Comma-separated column list of each live table, read once from the database
+    private final Map<String, String> columnLists = new ConcurrentHashMap<>();
+
+    @Override
+    @Scheduled(cron = "${archive.cron:0 30 2 * * *}")
+    public Map<String, Integer> archive() {
+        Map<String, Integer> moved = new LinkedHashMap<>();
+        for (ArchivedTable table : TABLES) {
+            int total = 0;
+            try {
+                int chunk;
+                do {
+                    chunk = transactionTemplate.execute(status -> archiveChunk(table));
+                    total += chunk;
+                } while (chunk == chunkSize);
+            } catch (RuntimeException e) {
+                log.warn("Stopped archiving {} after {} rows, retrying on the next run: {}", table.name, total,
+                    e.getMessage());
+            }
+            if (total > 0) {
+                moved.put(table.name, total);
+            }
+        }
+        if (!moved.isEmpty()) {
+            log.info("Archived inactive rows: {}", moved);
+        }
+        return moved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> T findIncludingArchived(Class<T> type, Long id) {
+        T row = entityManager.find(type, id);
+        if (row != null) {
+            return row;
+        }
+        Map<String, Object> loaded = new HashMap<>();
+        try {
+            row = findArchived(type, id, loaded);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read archived " + type.getSimpleName() + " " + id, e);
+        }
+        // Associations were swapped for archived rows: keep them from ever being flushed
+        loaded.values().forEach(entityManager::detach);
+        return row;
+    }
+
+    /**
+     * Move up to chunkSize rows of the table (and their children), in the caller's transaction;
+     * returns the number of rows of the table itself
+     */
+    private int archiveChunk(ArchivedTable table) {
+        StringBuilder sql = new StringBuilder("SELECT t.id FROM ").append(table.name).append(" t WHERE t.active = false");
+        for (String[] reference : table.references) {
+            sql.append(" AND NOT EXISTS (SELECT 1 FROM ").append(reference[0]).append(" r WHERE r.")
+                .append(reference[1]).append(" = t.id)");
+        }
+        sql.append(" ORDER BY t.id");
+        List<?> ids = entityManager.createNativeQuery(sql.toString())
+            .setMaxResults(chunkSize)
+            .getResultList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        if (table.childTable != null) {
+            move(table.childTable, table.childColumn + " IN (:ids)", ids, archivedAt);
+        }
+        move(table.name, "id IN (:ids) AND active = false", ids, archivedAt);
+        return ids.size();
+    }
+
+    private void move(String table, String condition, List<?> ids, LocalDateTime archivedAt) {
+        String archive = table + ARCHIVE_SUFFIX;
+        String columns = columnList(table);
+        int copied = execute(archive, "INSERT INTO " + archive + " (" + columns + ", archived_at) SELECT "
+            + columns + ", :archivedAt FROM " + table + " WHERE " + condition, ids, archivedAt);
+        int deleted = execute(table, "DELETE FROM " + table + " WHERE " + condition, ids, null);
+        if (copied != deleted) {
+            throw new IllegalStateException("Copied " + copied + " rows of " + table + " but deleted " + deleted);
+        }
+    }
+
+    private int execute(String touchedTable, String sql, List<?> ids, LocalDateTime archivedAt) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        // Only invalidate what depends on this table (without it Hibernate clears every cache region)
+        query.addSynchronizedQuerySpace(touchedTable);
+        query.setParameter("ids", ids);
+        if (archivedAt != null) {
+            query.setParameter("archivedAt", archivedAt);
+        }
+        return query.executeUpdate();
+    }
+
+    private String columnList(String table) {
+        return columnLists.computeIfAbsent(table, name -> entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            StringJoiner columns = new StringJoiner(", ");
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery("SELECT * FROM " + name + " WHERE 1 = 0")) {
+                ResultSetMetaData metaData = rows.getMetaData();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    columns.add(metaData.getColumnName(i));
+                }
+            }
+            return columns.toString();
+        }));
+    }
+
+    /**
+     * Load an archived row as its entity, with the references that were archived too (and the
+     * children that moved with it) replaced by their archived rows; live references stay lazy
+     */
+    private <T> T findArchived(Class<T> type, Object id, Map<String, Object> loaded) throws ReflectiveOperationException {
+        String key = type.getName() + "#" + id;
+        if (loaded.containsKey(key)) {
+            return type.cast(loaded.get(key));
+        }
+        List<?> rows = archivedRows(type, "id", id);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        // A reference already met as a lazy proxy comes back as that proxy
+        T row = type.cast(Hibernate.unproxy(rows.get(0)));
+        loaded.put(key, row);
+        resolveReferences(row, id, loaded);
+        return row;
+    }
+
+    private void resolveReferences(Object entity, Object id, Map<String, Object> loaded) throws ReflectiveOperationException {
+        PersistenceUnitUtil units = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        for (Attribute<?, ?> attribute : entityManager.getMetamodel().entity(entity.getClass()).getAttributes()) {
+            if (!attribute.isAssociation()) {
+                continue;
+            }
+            Field field = (Field) attribute.getJavaMember();
+            field.setAccessible(true);
+            if (attribute.isCollection()) {
+                Class<?> childType = ((PluralAttribute<?, ?, ?>) attribute).getElementType().getJavaType();
+                OneToMany oneToMany = field.getAnnotation(OneToMany.class);
+                if (oneToMany == null || !ARCHIVED_TABLES.contains(tableOf(childType))) {
+                    continue;
+                }
+                String column = childType.getDeclaredField(oneToMany.mappedBy()).getAnnotation(JoinColumn.class).name();
+                List<Object> children = new ArrayList<>();
+                for (Object row : archivedRows(childType, column, id)) {
+                    Object child = Hibernate.unproxy(row);
+                    Object childId = units.getIdentifier(child);
+                    loaded.put(childType.getName() + "#" + childId, child);
+                    resolveReferences(child, childId, loaded);
+                    children.add(child);
+                }
+                field.set(entity, children);
+            } else {
+                Object reference = field.get(entity);
+                if (reference == null) {
+                    continue;
+                }
+                Object archived = findArchived(attribute.getJavaType(), units.getIdentifier(reference), loaded);
+                if (archived != null) {
+                    field.set(entity, archived);
+                }
+            }
+        }
+    }
+
+    private List<?> archivedRows(Class<?> type, String column, Object value) {
+        return entityManager.createNativeQuery("SELECT * FROM " + tableOf(type) + ARCHIVE_SUFFIX
+                + " WHERE " + column + " = :value ORDER BY id", type)
+            .setParameter("value", value)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            // Archived doctors and medicines must not land in the live entities' second-level cache
+            .setHint(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)
+            .setHint(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS)
+            .getResultList();
+    }
+
+    private static String tableOf(Class<?> type) {
+        return type.getAnnotation(Table.class).name();
+    }
+
+    private static final class ArchivedTable {
+
+        private final String name;
+        private final List<String[]> references = new ArrayList<>();
+        private String childTable;
+        private String childColumn;
+
+        ArchivedTable(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Rows of the table are kept while a live row of referencingTable points at them
+         */
+        ArchivedTable referencedBy(String referencingTable, String column) {
+            references.add(new String[] {referencingTable, column});
+            return this;
+        }
+
+        /**
+         * Rows of childTable move together with the row their column points at
+         */
+        ArchivedTable movingChildren(String childTable, String column) {
+            this.childTable = childTable;
+            this.childColumn = column;
+            return this;
+        }
+    }
+}
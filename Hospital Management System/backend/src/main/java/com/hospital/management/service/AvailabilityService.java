@@ -0,0 +1,13 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.DoctorAvailability;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AvailabilityService {
+    
+    DoctorAvailability getDoctorAvailability(Long doctorId, LocalDate from, LocalDate to);
+    
+    List<DoctorAvailability> getAvailabilityBySpecialization(String specialization, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,147 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.DayAvailability;
+import com.hospital.management.dto.DoctorAvailability;
+import com.hospital.management.dto.SlotRange;
+import com.hospital.management.model.Doctor;
+import com.hospital.management.repository.DoctorRepository;
+import com.hospital.management.util.SlotTimeUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Free slots within consulting hours, computed from the slot booking index rather than
+ * from the appointments table. Each day lists runs of free slots rather than every slot,
+ * so a mostly free window costs a few objects per day.
+ */
+@Service
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    public static final int MAX_WINDOW_DAYS = 31;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private SlotBookingService slotBookingService;
+
+    @Value("${appointments.day-start:9:00 AM}")
+    private String dayStartText;
+
+    @Value("${appointments.day-end:5:00 PM}")
+    private String dayEndText;
+
+    private int dayStart;
+    private int dayEnd;
+    // Display label per slot boundary, formatted once instead of per response
+    private String[] slotLabels;
+    // Shared by every day with nothing booked
+    private List<SlotRange> wholeDay;
+
+    @PostConstruct
+    public void init() {
+        int slotMinutes = slotBookingService.getSlotMinutes();
+        dayStart = SlotTimeUtil.toSlotStart(SlotTimeUtil.parseTime(dayStartText), slotMinutes);
+        dayEnd = SlotTimeUtil.toSlotStart(SlotTimeUtil.parseTime(dayEndText), slotMinutes);
+        if (dayEnd <= dayStart) {
+            throw new IllegalStateException("appointments.day-end must be after appointments.day-start");
+        }
+        slotLabels = new String[dayEnd / slotMinutes + 1];
+        for (int slot = dayStart; slot <= dayEnd; slot += slotMinutes) {
+            slotLabels[slot / slotMinutes] = SlotTimeUtil.format(slot);
+        }
+        wholeDay = List.of(new SlotRange(slotLabels[dayStart / slotMinutes], slotLabels[dayEnd / slotMinutes]));
+    }
+
+    @Override
+    public DoctorAvailability getDoctorAvailability(Long doctorId, LocalDate from, LocalDate to) {
+        Doctor doctor = doctorRepository.findByIdAndActiveTrue(doctorId).orElse(null);
+        if (doctor == null) {
+            return null;
+        }
+        DoctorAvailability availability = new DoctorAvailability(doctor.getId(), doctor.getDoctorName(), doctor.getSpecialization());
+        buildAvailability(Collections.singletonList(availability), from, to);
+        return availability;
+    }
+
+    @Override
+    public List<DoctorAvailability> getAvailabilityBySpecialization(String specialization, LocalDate from, LocalDate to) {
+        List<DoctorAvailability> doctors = doctorRepository.findAvailabilityBySpecialization(specialization.trim());
+        buildAvailability(doctors, from, to);
+        return doctors;
+    }
+
+    /**
+     * Fill in the days of each doctor's entry
+     */
+    private void buildAvailability(List<DoctorAvailability> doctors, LocalDate from, LocalDate to) {
+        // Validate window
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (from.plusDays(MAX_WINDOW_DAYS).isBefore(to.plusDays(1))) {
+            throw new IllegalArgumentException("Availability can be requested for at most " + MAX_WINDOW_DAYS + " days");
+        }
+        if (doctors.isEmpty()) {
+            return;
+        }
+
+        List<Long> doctorIds = new ArrayList<>();
+        for (DoctorAvailability doctor : doctors) {
+            doctorIds.add(doctor.getDoctorId());
+        }
+        Map<Long, Map<LocalDate, BitSet>> taken = slotBookingService.getTakenSlots(doctorIds, from, to);
+
+        int slotMinutes = slotBookingService.getSlotMinutes();
+        LocalDateTime now = LocalDateTime.now();
+        for (DoctorAvailability doctor : doctors) {
+            List<DayAvailability> days = new ArrayList<>();
+            for (Map.Entry<LocalDate, BitSet> entry : taken.get(doctor.getDoctorId()).entrySet()) {
+                LocalDate date = entry.getKey();
+                if (date.isBefore(now.toLocalDate())) {
+                    days.add(new DayAvailability(date, List.of()));
+                    continue;
+                }
+                // Slots that already started today are not offered
+                int firstSlot = dayStart;
+                if (date.equals(now.toLocalDate())) {
+                    LocalTime time = now.toLocalTime();
+                    firstSlot = Math.max(dayStart, time.getHour() * 60 + time.getMinute());
+                }
+                int first = (firstSlot + slotMinutes - 1) / slotMinutes;
+                int end = dayEnd / slotMinutes;
+                BitSet bits = entry.getValue();
+                int booked = bits.nextSetBit(first);
+                boolean wholeDayFree = first == dayStart / slotMinutes && (booked < 0 || booked >= end);
+                days.add(new DayAvailability(date, wholeDayFree ? wholeDay : freeRanges(bits, first, end)));
+            }
+            doctor.setDays(days);
+        }
+    }
+
+    /**
+     * Runs of clear bits in [first, end), as slot start and end labels
+     */
+    private List<SlotRange> freeRanges(BitSet bits, int first, int end) {
+        List<SlotRange> ranges = new ArrayList<>();
+        int start = bits.nextClearBit(first);
+        while (start < end) {
+            int booked = bits.nextSetBit(start);
+            int stop = booked < 0 ? end : Math.min(booked, end);
+            ranges.add(new SlotRange(slotLabels[start], slotLabels[stop]));
+            start = bits.nextClearBit(stop);
+        }
+        return ranges;
+    }
+}
@@ -1,14 +1,21 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.BillingSummary;
 import com.hospital.management.model.Billing;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BillingService {
     
     Billing createBilling(Billing billing);
     
-    List<Billing> getAllBillings();
+    List<BillingSummary> getAllBillings();
+    
+    void streamAllBillings(Consumer<BillingSummary> sink);
+    
+    List<BillingSummary> getBillingsAfter(Long afterId, int limit);
     
     Billing getBillingById(Long id);
     
@@ -16,6 +23,6 @@ public interface BillingService {
     
     void deleteBilling(Long id);
     
-    Double calculateTotalAmount(Double consultationFee, Double treatmentFee, Double medicineFee);
+    BigDecimal calculateTotalAmount(BigDecimal consultationFee, BigDecimal treatmentFee, BigDecimal medicineFee);
 }
 
@@ -1,11 +1,20 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.BillingSummary;
+import com.hospital.management.event.BillingChangedEvent;
 import com.hospital.management.model.Billing;
 import com.hospital.management.repository.BillingRepository;
+import com.hospital.management.util.MoneyUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class BillingServiceImpl implements BillingService {
@@ -13,22 +22,41 @@ public class BillingServiceImpl implements BillingService {
     @Autowired
     private BillingRepository billingRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
+    @Transactional
     public Billing createBilling(Billing billing) {
         billing.setActive(true);
         // Calculate total amount
-        Double total = calculateTotalAmount(
+        BigDecimal total = calculateTotalAmount(
             billing.getConsultationFee(),
             billing.getTreatmentFee(),
             billing.getMedicineFee()
         );
         billing.setTotalAmount(total);
-        return billingRepository.save(billing);
+        Billing savedBilling = billingRepository.save(billing);
+        eventPublisher.publishEvent(new BillingChangedEvent(null, new BillingChangedEvent.Snapshot(savedBilling)));
+        return savedBilling;
+    }
+
+    @Override
+    public List<BillingSummary> getAllBillings() {
+        return billingRepository.findActiveSummaries();
     }
 
     @Override
-    public List<Billing> getAllBillings() {
-        return billingRepository.findByActiveTrue();
+    @Transactional(readOnly = true)
+    public void streamAllBillings(Consumer<BillingSummary> sink) {
+        try (Stream<BillingSummary> billings = billingRepository.streamActiveSummaries()) {
+            billings.forEach(sink);
+        }
+    }
+
+    @Override
+    public List<BillingSummary> getBillingsAfter(Long afterId, int limit) {
+        return billingRepository.findActiveSummariesAfter(afterId, Limit.of(limit));
     }
 
     @Override
@@ -38,6 +66,7 @@ public class BillingServiceImpl implements BillingService {
     }
 
     @Override
+    @Transactional
     public Billing updateBilling(Long id, Billing billing) {
         Billing existingBilling = billingRepository.findByIdAndActiveTrue(id)
                 .orElse(null);
@@ -46,6 +75,8 @@ public class BillingServiceImpl implements BillingService {
             return null;
         }
         
+        BillingChangedEvent.Snapshot before = new BillingChangedEvent.Snapshot(existingBilling);
+        
         existingBilling.setBillDate(billing.getBillDate());
         existingBilling.setConsultationFee(billing.getConsultationFee());
         existingBilling.setTreatmentFee(billing.getTreatmentFee());
@@ -54,7 +85,7 @@ public class BillingServiceImpl implements BillingService {
         existingBilling.setPaymentStatus(billing.getPaymentStatus());
         
         // Recalculate total amount
-        Double total = calculateTotalAmount(
+        BigDecimal total = calculateTotalAmount(
             existingBilling.getConsultationFee(),
             existingBilling.getTreatmentFee(),
             existingBilling.getMedicineFee()
@@ -69,26 +100,28 @@ public class BillingServiceImpl implements BillingService {
             existingBilling.setAppointment(billing.getAppointment());
         }
         
-        return billingRepository.save(existingBilling);
+        Billing savedBilling = billingRepository.save(existingBilling);
+        eventPublisher.publishEvent(new BillingChangedEvent(before, new BillingChangedEvent.Snapshot(savedBilling)));
+        return savedBilling;
     }
 
     @Override
+    @Transactional
     public void deleteBilling(Long id) {
         Billing billing = billingRepository.findByIdAndActiveTrue(id)
                 .orElse(null);
         
         if (billing != null) {
+            BillingChangedEvent.Snapshot before = new BillingChangedEvent.Snapshot(billing);
             billing.setActive(false);
             billingRepository.save(billing);
+            eventPublisher.publishEvent(new BillingChangedEvent(before, null));
         }
     }
 
     @Override
-    public Double calculateTotalAmount(Double consultationFee, Double treatmentFee, Double medicineFee) {
-        if (consultationFee == null) consultationFee = 0.0;
-        if (treatmentFee == null) treatmentFee = 0.0;
-        if (medicineFee == null) medicineFee = 0.0;
-        return consultationFee + treatmentFee + medicineFee;
+    public BigDecimal calculateTotalAmount(BigDecimal consultationFee, BigDecimal treatmentFee, BigDecimal medicineFee) {
+        return MoneyUtil.sum(consultationFee, treatmentFee, medicineFee);
     }
 }
 
@@ -0,0 +1,10 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.CacheStats;
+
+public interface CacheStatsService {
+    
+    CacheStats getStats();
+    
+    void evictAll();
+}
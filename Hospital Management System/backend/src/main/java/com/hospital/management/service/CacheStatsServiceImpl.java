@@ -0,0 +1,61 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.CacheRegionStats;
+import com.hospital.management.dto.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads Hibernate's second-level cache statistics. Counters stay at zero
+ * unless hibernate.generate_statistics is enabled.
+ */
+@Service
+public class CacheStatsServiceImpl implements CacheStatsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public CacheStats getStats() {
+        Statistics statistics = sessionFactory().getStatistics();
+
+        CacheStats stats = new CacheStats();
+        stats.setStatisticsEnabled(statistics.isStatisticsEnabled());
+        stats.setSecondLevelCacheHits(statistics.getSecondLevelCacheHitCount());
+        stats.setSecondLevelCacheMisses(statistics.getSecondLevelCacheMissCount());
+        stats.setSecondLevelCachePuts(statistics.getSecondLevelCachePutCount());
+
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        List<CacheRegionStats> regions = new ArrayList<>();
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            // JCache does not report region sizes; Hibernate signals that with a negative count
+            long elementCount = region.getElementCountInMemory();
+            regions.add(new CacheRegionStats(regionName, region.getHitCount(), region.getMissCount(),
+                region.getPutCount(), elementCount >= 0 ? elementCount : null));
+        }
+        stats.setRegions(regions);
+        return stats;
+    }
+
+    @Override
+    public void evictAll() {
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,20 @@
+package com.hospital.management.service;
+
+public interface CollectionVersionService {
+
+    String DOCTORS = "doctors";
+    String MEDICINES = "medicines";
+    String PATIENTS = "patients";
+
+    /**
+     * Record a write to the collection; applied after the surrounding transaction commits
+     */
+    void bump(String collection);
+
+    long getVersion(String collection);
+
+    /**
+     * Weak ETag for the collection's current version
+     */
+    String getEtag(String collection);
+}
@@ -0,0 +1,64 @@
+package com.hospital.management.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version counter per resource collection, bumped by the service write paths.
+ *
+ * A version is bumped only after the write commits: a reader may then briefly see new rows
+ * under the old version (and refetch next time), but never old rows under the new version.
+ * ETags carry a per-process id, so they do not match across restarts or nodes. Writes made
+ * on another node are not seen here, so the ETag also rolls over every
+ * collections.version.max-staleness-ms (5 s by default): a client pinned to one node gets the
+ * other nodes' writes within that time instead of a 304 forever.
+ */
+@Service
+public class CollectionVersionServiceImpl implements CollectionVersionService {
+
+    private final String processId = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Value("${collections.version.max-staleness-ms:5000}")
+    private long maxStalenessMillis;
+
+    @Override
+    public void bump(String collection) {
+        AtomicLong version = versionOf(collection);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    public long getVersion(String collection) {
+        return versionOf(collection).get();
+    }
+
+    @Override
+    public String getEtag(String collection) {
+        StringBuilder etag = new StringBuilder("W/\"").append(collection).append('-').append(processId)
+            .append('-').append(getVersion(collection));
+        if (maxStalenessMillis > 0) {
+            etag.append('-').append(System.currentTimeMillis() / maxStalenessMillis);
+        }
+        return etag.append('"').toString();
+    }
+
+    private AtomicLong versionOf(String collection) {
+        return versions.computeIfAbsent(collection, key -> new AtomicLong());
+    }
+}
@@ -0,0 +1,14 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.DashboardSummary;
+
+import java.util.Map;
+
+public interface DashboardCounterService {
+    
+    DashboardSummary getSummary();
+    
+    Map<String, Long> reconcile();
+    
+    void refresh();
+}
@@ -0,0 +1,222 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.DashboardSummary;
+import com.hospital.management.event.AppointmentChangedEvent;
+import com.hospital.management.event.BillingChangedEvent;
+import com.hospital.management.event.DoctorChangedEvent;
+import com.hospital.management.event.PatientChangedEvent;
+import com.hospital.management.event.PatientsImportedEvent;
+import com.hospital.management.model.DashboardCounter;
+import com.hospital.management.repository.BillingRepository;
+import com.hospital.management.repository.DashboardCounterRepository;
+import com.hospital.management.util.MoneyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the dashboard figures as counters in the dashboard_counters table, mirrored in memory.
+ * Write paths publish change events inside their transaction; the table is adjusted in that same
+ * transaction and the in-memory copy once it commits.
+ */
+@Service
+public class DashboardCounterServiceImpl implements DashboardCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCounterServiceImpl.class);
+
+    private static final List<String> COUNTER_NAMES = List.of(
+        DashboardCounter.PATIENTS,
+        DashboardCounter.DOCTORS,
+        DashboardCounter.APPOINTMENTS,
+        DashboardCounter.BILLS,
+        DashboardCounter.PENDING_PAYMENTS,
+        DashboardCounter.REVENUE_MINOR
+    );
+
+    @Autowired
+    private DashboardCounterRepository counterRepository;
+
+    @Autowired
+    private BillingRepository billingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    public DashboardCounterServiceImpl() {
+        for (String name : COUNTER_NAMES) {
+            counters.put(name, new AtomicLong());
+        }
+    }
+
+    @Override
+    public DashboardSummary getSummary() {
+        return new DashboardSummary(
+            counters.get(DashboardCounter.PATIENTS).get(),
+            counters.get(DashboardCounter.DOCTORS).get(),
+            counters.get(DashboardCounter.APPOINTMENTS).get(),
+            counters.get(DashboardCounter.BILLS).get(),
+            MoneyUtil.fromMinor(counters.get(DashboardCounter.REVENUE_MINOR).get()),
+            counters.get(DashboardCounter.PENDING_PAYMENTS).get()
+        );
+    }
+
+    /**
+     * Recompute every counter from the source tables, correct the stored values and
+     * return the drift found (expected minus stored) for each counter that was off
+     */
+    @Override
+    @Scheduled(cron = "${dashboard.counters.reconcile-cron:0 0 * * * *}")
+    public Map<String, Long> reconcile() {
+        Map<String, Long> drift = transactionTemplate.execute(status -> {
+            // Lock the counter rows first so concurrent writers wait instead of racing the recount
+            Map<String, DashboardCounter> stored = new LinkedHashMap<>();
+            for (DashboardCounter counter : counterRepository.findAllForUpdate()) {
+                stored.put(counter.getCounterName(), counter);
+            }
+
+            Map<String, Long> expected = computeFromSource();
+            Map<String, Long> found = new LinkedHashMap<>();
+            for (Map.Entry<String, Long> entry : expected.entrySet()) {
+                DashboardCounter counter = stored.get(entry.getKey());
+                if (counter == null) {
+                    counterRepository.save(new DashboardCounter(entry.getKey(), entry.getValue()));
+                    continue;
+                }
+                long difference = entry.getValue() - counter.getCounterValue();
+                if (difference != 0) {
+                    found.put(entry.getKey(), difference);
+                    counter.setCounterValue(entry.getValue());
+                }
+            }
+
+            afterCommit(() -> expected.forEach((name, value) -> counters.get(name).set(value)));
+            return found;
+        });
+
+        if (!drift.isEmpty()) {
+            log.warn("Dashboard counters drifted from source tables, corrected by {}", drift);
+        }
+        return drift;
+    }
+
+    /**
+     * Reload the in-memory copy from the table, picking up writes made by other nodes
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${dashboard.counters.refresh-interval-ms:30000}",
+               initialDelayString = "${dashboard.counters.refresh-interval-ms:30000}")
+    public void refresh() {
+        for (DashboardCounter counter : counterRepository.findAll()) {
+            AtomicLong value = counters.get(counter.getCounterName());
+            if (value != null) {
+                value.set(counter.getCounterValue());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (counterRepository.count() < COUNTER_NAMES.size()) {
+            log.info("Initializing dashboard counters from source tables");
+            reconcile();
+        } else {
+            refresh();
+        }
+    }
+
+    @EventListener
+    public void onPatientChanged(PatientChangedEvent event) {
+        adjust(DashboardCounter.PATIENTS, presence(event.getAfter()) - presence(event.getBefore()));
+    }
+
+    @EventListener
+    public void onPatientsImported(PatientsImportedEvent event) {
+        adjust(DashboardCounter.PATIENTS, event.getCount());
+    }
+
+    @EventListener
+    public void onDoctorChanged(DoctorChangedEvent event) {
+        adjust(DashboardCounter.DOCTORS, presence(event.getAfter()) - presence(event.getBefore()));
+    }
+
+    @EventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        adjust(DashboardCounter.APPOINTMENTS, presence(event.getAfter()) - presence(event.getBefore()));
+    }
+
+    @EventListener
+    public void onBillingChanged(BillingChangedEvent event) {
+        BillingChangedEvent.Snapshot before = event.getBefore();
+        BillingChangedEvent.Snapshot after = event.getAfter();
+        adjust(DashboardCounter.BILLS, presence(after) - presence(before));
+        adjust(DashboardCounter.PENDING_PAYMENTS, pending(after) - pending(before));
+        adjust(DashboardCounter.REVENUE_MINOR, paidRevenue(after) - paidRevenue(before));
+    }
+
+    private void adjust(String name, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        counterRepository.addToCounter(name, delta);
+        afterCommit(() -> counters.get(name).addAndGet(delta));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Map<String, Long> computeFromSource() {
+        Object[] row = billingRepository.getDashboardSummaryRaw().get(0);
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put(DashboardCounter.PATIENTS, toLong(row[0]));
+        values.put(DashboardCounter.DOCTORS, toLong(row[1]));
+        values.put(DashboardCounter.APPOINTMENTS, toLong(row[2]));
+        values.put(DashboardCounter.BILLS, toLong(row[3]));
+        values.put(DashboardCounter.REVENUE_MINOR, MoneyUtil.toMinor((Number) row[4]));
+        values.put(DashboardCounter.PENDING_PAYMENTS, toLong(row[5]));
+        return values;
+    }
+
+    private static long presence(Object snapshot) {
+        return snapshot != null ? 1 : 0;
+    }
+
+    private static long pending(BillingChangedEvent.Snapshot snapshot) {
+        return snapshot != null && snapshot.isPending() ? 1 : 0;
+    }
+
+    private static long paidRevenue(BillingChangedEvent.Snapshot snapshot) {
+        if (snapshot == null || !snapshot.isPaid() || snapshot.getTotalAmount() == null) {
+            return 0;
+        }
+        return MoneyUtil.toMinor(snapshot.getTotalAmount());
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
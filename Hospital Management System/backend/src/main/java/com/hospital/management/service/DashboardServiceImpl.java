@@ -5,12 +5,20 @@ import com.hospital.management.repository.PatientRepository;
 import com.hospital.management.repository.DoctorRepository;
 import com.hospital.management.repository.AppointmentRepository;
 import com.hospital.management.repository.BillingRepository;
+import com.hospital.management.util.MoneyUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
+    public static final String STRATEGY_COUNTERS = "counters";
+    public static final String STRATEGY_AGGREGATE = "aggregate";
+    public static final String STRATEGY_PER_TABLE = "per-table";
+
     @Autowired
     private PatientRepository patientRepository;
 
@@ -23,8 +31,42 @@ public class DashboardServiceImpl implements DashboardService {
     @Autowired
     private BillingRepository billingRepository;
 
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Value("${dashboard.summary.strategy:" + STRATEGY_COUNTERS + "}")
+    private String summaryStrategy;
+
     @Override
     public DashboardSummary getDashboardSummary() {
+        if (STRATEGY_COUNTERS.equals(summaryStrategy)) {
+            return dashboardCounterService.getSummary();
+        }
+        if (STRATEGY_PER_TABLE.equals(summaryStrategy)) {
+            return getDashboardSummaryPerTable();
+        }
+        return getDashboardSummaryAggregate();
+    }
+
+    /**
+     * Compute the whole summary with a single aggregate statement
+     */
+    private DashboardSummary getDashboardSummaryAggregate() {
+        Object[] row = billingRepository.getDashboardSummaryRaw().get(0);
+        return new DashboardSummary(
+            toLong(row[0]),
+            toLong(row[1]),
+            toLong(row[2]),
+            toLong(row[3]),
+            MoneyUtil.fromMinor(MoneyUtil.toMinor((Number) row[4])),
+            toLong(row[5])
+        );
+    }
+
+    /**
+     * Original implementation: one round trip per figure
+     */
+    private DashboardSummary getDashboardSummaryPerTable() {
         // Count active patients
         Long totalPatients = patientRepository.countByActiveTrue();
 
@@ -38,9 +80,9 @@ public class DashboardServiceImpl implements DashboardService {
         Long totalBills = billingRepository.countByActiveTrue();
 
         // Get total revenue (sum of paid billings)
-        Double totalRevenue = billingRepository.getTotalRevenue();
+        BigDecimal totalRevenue = billingRepository.getTotalRevenue();
         if (totalRevenue == null) {
-            totalRevenue = 0.0;
+            totalRevenue = BigDecimal.ZERO;
         }
 
         // Count pending payments
@@ -58,5 +100,8 @@ public class DashboardServiceImpl implements DashboardService {
             pendingPayments
         );
     }
-}
 
+    private Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -11,6 +11,8 @@ public interface DoctorService {
     
     List<Doctor> getAllDoctors();
     
+    List<Doctor> getDoctorsAfter(Long afterId, int limit);
+    
     Optional<Doctor> getDoctorById(Long id);
     
     Doctor updateDoctor(Long id, Doctor doctorDetails);
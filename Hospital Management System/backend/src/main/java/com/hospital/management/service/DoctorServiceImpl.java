@@ -1,9 +1,13 @@
 package com.hospital.management.service;
 
+import com.hospital.management.event.DoctorChangedEvent;
 import com.hospital.management.model.Doctor;
 import com.hospital.management.repository.DoctorRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,9 +18,19 @@ public class DoctorServiceImpl implements DoctorService {
     @Autowired
     private DoctorRepository doctorRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
     @Override
+    @Transactional
     public Doctor createDoctor(Doctor doctor) {
-        return doctorRepository.save(doctor);
+        Doctor savedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(new DoctorChangedEvent(null, new DoctorChangedEvent.Snapshot(savedDoctor)));
+        collectionVersionService.bump(CollectionVersionService.DOCTORS);
+        return savedDoctor;
     }
 
     @Override
@@ -24,29 +38,43 @@ public class DoctorServiceImpl implements DoctorService {
         return doctorRepository.findByActiveTrue();
     }
 
+    @Override
+    public List<Doctor> getDoctorsAfter(Long afterId, int limit) {
+        return doctorRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
     @Override
     public Optional<Doctor> getDoctorById(Long id) {
         return doctorRepository.findByIdAndActiveTrue(id);
     }
 
     @Override
+    @Transactional
     public Doctor updateDoctor(Long id, Doctor doctorDetails) {
         return doctorRepository.findByIdAndActiveTrue(id).map(doctor -> {
+            DoctorChangedEvent.Snapshot before = new DoctorChangedEvent.Snapshot(doctor);
             doctor.setDoctorName(doctorDetails.getDoctorName());
             doctor.setSpecialization(doctorDetails.getSpecialization());
             doctor.setQualification(doctorDetails.getQualification());
             doctor.setExperience(doctorDetails.getExperience());
             doctor.setContactNumber(doctorDetails.getContactNumber());
             doctor.setEmail(doctorDetails.getEmail());
-            return doctorRepository.save(doctor);
+            Doctor savedDoctor = doctorRepository.save(doctor);
+            eventPublisher.publishEvent(new DoctorChangedEvent(before, new DoctorChangedEvent.Snapshot(savedDoctor)));
+            collectionVersionService.bump(CollectionVersionService.DOCTORS);
+            return savedDoctor;
         }).orElse(null);
     }
 
     @Override
+    @Transactional
     public void deleteDoctor(Long id) {
         doctorRepository.findByIdAndActiveTrue(id).ifPresent(doctor -> {
+            DoctorChangedEvent.Snapshot before = new DoctorChangedEvent.Snapshot(doctor);
             doctor.setActive(false);
             doctorRepository.save(doctor);
+            eventPublisher.publishEvent(new DoctorChangedEvent(before, null));
+            collectionVersionService.bump(CollectionVersionService.DOCTORS);
         });
     }
 }
@@ -1,15 +1,21 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.LabTestSummary;
 import com.hospital.management.model.LabTest;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface LabTestService {
     
     LabTest createLabTest(LabTest labTest);
     
-    List<LabTest> getAllLabTests();
+    List<LabTestSummary> getAllLabTests();
+    
+    void streamAllLabTests(Consumer<LabTestSummary> sink);
+    
+    List<LabTestSummary> getLabTestsAfter(Long afterId, int limit);
     
     Optional<LabTest> getLabTestById(Long id);
     
@@ -1,13 +1,18 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.LabTestSummary;
 import com.hospital.management.model.LabTest;
 import com.hospital.management.repository.LabTestRepository;
 import com.hospital.management.repository.PatientRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class LabTestServiceImpl implements LabTestService {
@@ -24,8 +29,21 @@ public class LabTestServiceImpl implements LabTestService {
     }
 
     @Override
-    public List<LabTest> getAllLabTests() {
-        return labTestRepository.findByActiveTrue();
+    public List<LabTestSummary> getAllLabTests() {
+        return labTestRepository.findActiveSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllLabTests(Consumer<LabTestSummary> sink) {
+        try (Stream<LabTestSummary> labTests = labTestRepository.streamActiveSummaries()) {
+            labTests.forEach(sink);
+        }
+    }
+
+    @Override
+    public List<LabTestSummary> getLabTestsAfter(Long afterId, int limit) {
+        return labTestRepository.findActiveSummariesAfter(afterId, Limit.of(limit));
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.hospital.management.service;
 
 import com.hospital.management.model.MedicalRecord;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface MedicalRecordService {
@@ -10,6 +11,8 @@ public interface MedicalRecordService {
     
     List<MedicalRecord> getMedicalRecordsByPatientId(Long patientId);
     
+    List<MedicalRecord> getMedicalRecordsPage(Long patientId, LocalDate beforeVisitDate, Long beforeId, int limit);
+    
     List<MedicalRecord> getAllMedicalRecords();
 }
 
@@ -3,8 +3,10 @@ package com.hospital.management.service;
 import com.hospital.management.model.MedicalRecord;
 import com.hospital.management.repository.MedicalRecordRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -23,6 +25,14 @@ public class MedicalRecordServiceImpl implements MedicalRecordService {
         return medicalRecordRepository.findByPatientIdAndActiveTrueOrderByVisitDateDesc(patientId);
     }
 
+    @Override
+    public List<MedicalRecord> getMedicalRecordsPage(Long patientId, LocalDate beforeVisitDate, Long beforeId, int limit) {
+        if (beforeVisitDate == null || beforeId == null) {
+            return medicalRecordRepository.findByPatientIdAndActiveTrueOrderByVisitDateDescIdDesc(patientId, Limit.of(limit));
+        }
+        return medicalRecordRepository.findPatientRecordsBefore(patientId, beforeVisitDate, beforeId, Limit.of(limit));
+    }
+
     @Override
     public List<MedicalRecord> getAllMedicalRecords() {
         return medicalRecordRepository.findByActiveTrueOrderByVisitDateDesc();
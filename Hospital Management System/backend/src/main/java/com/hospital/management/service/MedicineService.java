@@ -11,6 +11,8 @@ public interface MedicineService {
     
     List<Medicine> getAllMedicines();
     
+    List<Medicine> getMedicinesAfter(Long afterId, int limit);
+    
     Optional<Medicine> getMedicineById(Long id);
     
     Medicine updateMedicine(Long id, Medicine medicineDetails);
@@ -3,7 +3,9 @@ package com.hospital.management.service;
 import com.hospital.management.model.Medicine;
 import com.hospital.management.repository.MedicineRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,9 +16,19 @@ public class MedicineServiceImpl implements MedicineService {
     @Autowired
     private MedicineRepository medicineRepository;
 
+    @Autowired
+    private MedicineSuggestService medicineSuggestService;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
     @Override
+    @Transactional
     public Medicine createMedicine(Medicine medicine) {
-        return medicineRepository.save(medicine);
+        Medicine savedMedicine = medicineRepository.save(medicine);
+        medicineSuggestService.upsert(savedMedicine);
+        collectionVersionService.bump(CollectionVersionService.MEDICINES);
+        return savedMedicine;
     }
 
     @Override
@@ -24,26 +36,38 @@ public class MedicineServiceImpl implements MedicineService {
         return medicineRepository.findByActiveTrue();
     }
 
+    @Override
+    public List<Medicine> getMedicinesAfter(Long afterId, int limit) {
+        return medicineRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
     @Override
     public Optional<Medicine> getMedicineById(Long id) {
         return medicineRepository.findByIdAndActiveTrue(id);
     }
 
     @Override
+    @Transactional
     public Medicine updateMedicine(Long id, Medicine medicineDetails) {
         return medicineRepository.findByIdAndActiveTrue(id).map(medicine -> {
             medicine.setMedicineName(medicineDetails.getMedicineName());
             medicine.setPrice(medicineDetails.getPrice());
             medicine.setStock(medicineDetails.getStock());
-            return medicineRepository.save(medicine);
+            Medicine savedMedicine = medicineRepository.save(medicine);
+            medicineSuggestService.upsert(savedMedicine);
+            collectionVersionService.bump(CollectionVersionService.MEDICINES);
+            return savedMedicine;
         }).orElse(null);
     }
 
     @Override
+    @Transactional
     public void deleteMedicine(Long id) {
         medicineRepository.findByIdAndActiveTrue(id).ifPresent(medicine -> {
             medicine.setActive(false);
             medicineRepository.save(medicine);
+            medicineSuggestService.remove(id);
+            collectionVersionService.bump(CollectionVersionService.MEDICINES);
         });
     }
 }
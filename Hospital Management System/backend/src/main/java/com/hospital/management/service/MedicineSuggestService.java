@@ -0,0 +1,22 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.MedicineSuggestion;
+import com.hospital.management.model.Medicine;
+
+import java.util.List;
+
+public interface MedicineSuggestService {
+
+    int DEFAULT_LIMIT = 10;
+    int MAX_LIMIT = 50;
+
+    List<MedicineSuggestion> suggest(String query, int limit);
+
+    void upsert(Medicine medicine);
+
+    void remove(Long medicineId);
+
+    void adjustStock(Long medicineId, int delta);
+
+    int rebuild();
+}
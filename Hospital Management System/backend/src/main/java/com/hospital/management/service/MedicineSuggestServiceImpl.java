@@ -0,0 +1,316 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.MedicineSuggestion;
+import com.hospital.management.model.Medicine;
+import com.hospital.management.repository.MedicineRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory prefix index over active medicine names. Names are keyed by the whole name and by
+ * every word start ("amoxicillin clavulanate" is found by "amox" and by "clav"), kept in one
+ * sorted array and searched with binary search. Lookups read an immutable snapshot and never
+ * touch the database; catalogue writes rebuild the snapshot with a linear merge once they commit,
+ * and stock changes update the entry in place.
+ */
+@Service
+public class MedicineSuggestServiceImpl implements MedicineSuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(MedicineSuggestServiceImpl.class);
+
+    @Autowired
+    private MedicineRepository medicineRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new Entry[0]);
+    private final Map<Long, Entry> entriesById = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    @Override
+    public List<MedicineSuggestion> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        List<MedicineSuggestion> suggestions = new ArrayList<>();
+        if (prefix.isEmpty() || limit <= 0) {
+            return suggestions;
+        }
+
+        Snapshot current = snapshot;
+        int from = lowerBound(current.keys, prefix);
+        int to = lowerBound(current.keys, prefix + Character.MAX_VALUE);
+
+        // Best matches so far, best first; most candidates are rejected against the last one without allocating
+        Entry[] best = new Entry[limit];
+        int[] bestStock = new int[limit];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            Entry entry = current.entries[i];
+            int stock = entry.stock;
+            if (count == limit && !ranksAbove(entry, stock, best[count - 1], bestStock[count - 1])) {
+                continue;
+            }
+            if (indexOf(best, count, entry) >= 0) {
+                // Matched by its name and by one of its words
+                continue;
+            }
+            int position = count < limit ? count++ : limit - 1;
+            while (position > 0 && ranksAbove(entry, stock, best[position - 1], bestStock[position - 1])) {
+                best[position] = best[position - 1];
+                bestStock[position] = bestStock[position - 1];
+                position--;
+            }
+            best[position] = entry;
+            bestStock[position] = stock;
+        }
+
+        for (int i = 0; i < count; i++) {
+            suggestions.add(new MedicineSuggestion(best[i].id, best[i].name, bestStock[i]));
+        }
+        return suggestions;
+    }
+
+    @Override
+    public void upsert(Medicine medicine) {
+        if (!Boolean.TRUE.equals(medicine.getActive())) {
+            remove(medicine.getId());
+            return;
+        }
+        long id = medicine.getId();
+        String name = medicine.getMedicineName();
+        int stock = medicine.getStock() != null ? medicine.getStock() : 0;
+        afterCommit(() -> {
+            synchronized (writeLock) {
+                Entry existing = entriesById.get(id);
+                if (existing != null && existing.name.equals(name)) {
+                    existing.stock = stock;
+                    return;
+                }
+                Entry entry = new Entry(id, name, stock);
+                snapshot = merge(snapshot, id, entry);
+                entriesById.put(id, entry);
+            }
+        });
+    }
+
+    @Override
+    public void remove(Long medicineId) {
+        afterCommit(() -> {
+            synchronized (writeLock) {
+                if (entriesById.remove(medicineId) != null) {
+                    snapshot = merge(snapshot, medicineId, null);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void adjustStock(Long medicineId, int delta) {
+        afterCommit(() -> {
+            Entry entry = entriesById.get(medicineId);
+            if (entry != null) {
+                synchronized (entry) {
+                    entry.stock += delta;
+                }
+            }
+        });
+    }
+
+    /**
+     * Reload the whole index from the table, picking up writes made on other nodes. A local write
+     * that commits while the rows are being read can be lost until the next refresh.
+     */
+    @Override
+    public int rebuild() {
+        List<Object[]> rows = medicineRepository.findActiveNamesAndStock();
+        List<Keyed> keyed = new ArrayList<>();
+        Map<Long, Entry> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : rows) {
+            Entry entry = new Entry((Long) row[0], (String) row[1], row[2] != null ? (Integer) row[2] : 0);
+            loaded.put(entry.id, entry);
+            for (String key : keysFor(entry.name)) {
+                keyed.add(new Keyed(key, entry));
+            }
+        }
+        keyed.sort(Keyed.ORDER);
+
+        String[] keys = new String[keyed.size()];
+        Entry[] entries = new Entry[keyed.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyed.get(i).key;
+            entries[i] = keyed.get(i).entry;
+        }
+        synchronized (writeLock) {
+            snapshot = new Snapshot(keys, entries);
+            entriesById.clear();
+            entriesById.putAll(loaded);
+        }
+        return rows.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        int medicines = rebuild();
+        log.info("Indexed {} medicines for suggestions", medicines);
+    }
+
+    @Scheduled(fixedDelayString = "${medicines.suggest.refresh-interval-ms:300000}",
+               initialDelayString = "${medicines.suggest.refresh-interval-ms:300000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * Copy the snapshot without the given id's keys and with the new entry's keys merged in
+     */
+    private static Snapshot merge(Snapshot current, long removedId, Entry added) {
+        List<String> addedKeys = added != null ? keysFor(added.name) : new ArrayList<>();
+        int size = current.keys.length + addedKeys.size();
+        String[] keys = new String[size];
+        Entry[] entries = new Entry[size];
+        int out = 0;
+        int next = 0;
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.entries[i].id == removedId) {
+                continue;
+            }
+            while (next < addedKeys.size()
+                    && Keyed.compare(addedKeys.get(next), added, current.keys[i], current.entries[i]) < 0) {
+                keys[out] = addedKeys.get(next++);
+                entries[out++] = added;
+            }
+            keys[out] = current.keys[i];
+            entries[out++] = current.entries[i];
+        }
+        while (next < addedKeys.size()) {
+            keys[out] = addedKeys.get(next++);
+            entries[out++] = added;
+        }
+        return new Snapshot(Arrays.copyOf(keys, out), Arrays.copyOf(entries, out));
+    }
+
+    // Sorted keys: the whole name, then the rest of the name from each later word start
+    private static List<String> keysFor(String name) {
+        String normalized = normalize(name);
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (!Character.isLetterOrDigit(normalized.charAt(i - 1)) && Character.isLetterOrDigit(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        keys.sort(null);
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Ranking: more stock first, then by name, then by id
+    private static boolean ranksAbove(Entry entry, int stock, Entry other, int otherStock) {
+        if (stock != otherStock) {
+            return stock > otherStock;
+        }
+        int byName = entry.key.compareTo(other.key);
+        return byName != 0 ? byName < 0 : entry.id < other.id;
+    }
+
+    private static int indexOf(Entry[] entries, int count, Entry entry) {
+        for (int i = 0; i < count; i++) {
+            if (entries[i] == entry) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Snapshot {
+
+        private final String[] keys;
+        private final Entry[] entries;
+
+        private Snapshot(String[] keys, Entry[] entries) {
+            this.keys = keys;
+            this.entries = entries;
+        }
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final String name;
+        private final String key;
+        private volatile int stock;
+
+        private Entry(long id, String name, int stock) {
+            this.id = id;
+            this.name = name;
+            this.key = normalize(name);
+            this.stock = stock;
+        }
+    }
+
+    private static final class Keyed {
+
+        private static final Comparator<Keyed> ORDER = (a, b) -> compare(a.key, a.entry, b.key, b.entry);
+
+        private final String key;
+        private final Entry entry;
+
+        private Keyed(String key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+
+        private static int compare(String key, Entry entry, String otherKey, Entry otherEntry) {
+            int byKey = key.compareTo(otherKey);
+            return byKey != 0 ? byKey : Long.compare(entry.id, otherEntry.id);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.PatientImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface PatientImportService {
+
+    String FORMAT_CSV = "csv";
+    String FORMAT_JSON = "json";
+
+    PatientImportResult importPatients(InputStream input, String format) throws IOException;
+}
@@ -0,0 +1,280 @@
+package com.hospital.management.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.management.dto.PatientImportResult;
+import com.hospital.management.event.PatientChangedEvent;
+import com.hospital.management.event.PatientsImportedEvent;
+import com.hospital.management.model.Patient;
+import com.hospital.management.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams patients from CSV or a JSON array into the database. Rows are parsed one at a time,
+ * validated, and persisted in chunks; each chunk is one transaction whose inserts go out as
+ * JDBC batches. A chunk that fails is retried row by row so only the offending rows are rejected.
+ */
+@Service
+public class PatientImportServiceImpl implements PatientImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PatientImportServiceImpl.class);
+
+    private static final String[] COLUMNS = {"patientname", "gender", "age", "bloodgroup", "contactnumber", "address"};
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${patients.import.batch-size:100}")
+    private int batchSize;
+
+    @Value("${patients.import.commit-interval:1000}")
+    private int commitInterval;
+
+    @Override
+    public PatientImportResult importPatients(InputStream input, String format) throws IOException {
+        if (!FORMAT_CSV.equals(format) && !FORMAT_JSON.equals(format)) {
+            throw new IllegalArgumentException("Unsupported import format: " + format + " (expected csv or json)");
+        }
+
+        Import run = new Import();
+        long started = System.nanoTime();
+        try {
+            if (FORMAT_CSV.equals(format)) {
+                readCsv(input, run);
+            } else {
+                readJson(input, run);
+            }
+        } catch (IOException e) {
+            // The stream itself is unreadable from here on; keep what was already committed
+            run.result.addError(run.rowNumber, "Import stopped: " + e.getMessage());
+            run.result.setCompleted(false);
+        }
+        run.flush();
+
+        PatientImportResult result = run.result;
+        // Rows rejected on insert are only known when their chunk is written
+        result.getErrors().sort(Comparator.comparingLong(PatientImportResult.RowError::getRow));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        result.setTotalRows(run.rowNumber);
+        result.setElapsedMillis(elapsedMillis);
+        result.setRowsPerSecond(elapsedMillis > 0
+            ? Math.round(result.getImportedRows() * 1000.0 / elapsedMillis * 10) / 10.0
+            : result.getImportedRows());
+        log.info("Patient import ({}): {} rows, {} imported, {} rejected in {} ms ({} rows/s)", format,
+            result.getTotalRows(), result.getImportedRows(), result.getFailedRows(), elapsedMillis, result.getRowsPerSecond());
+        return result;
+    }
+
+    private void readCsv(InputStream input, Import run) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            return;
+        }
+
+        // Match columns by name, ignoring case, spaces and underscores ("Patient Name", "patient_name")
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(normalize(header.get(i)), i);
+        }
+        for (String column : COLUMNS) {
+            if (!positions.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + column);
+            }
+        }
+
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            run.rowNumber++;
+            Patient patient = new Patient();
+            patient.setPatientName(column(record, positions, "patientname"));
+            patient.setGender(column(record, positions, "gender"));
+            patient.setBloodGroup(column(record, positions, "bloodgroup"));
+            patient.setContactNumber(column(record, positions, "contactnumber"));
+            patient.setAddress(column(record, positions, "address"));
+            String age = column(record, positions, "age");
+            if (age != null) {
+                try {
+                    patient.setAge(Integer.parseInt(age));
+                } catch (NumberFormatException e) {
+                    run.result.addError(run.rowNumber, "Age is not a number: " + age);
+                    continue;
+                }
+            }
+            run.accept(patient);
+        }
+    }
+
+    private void readJson(InputStream input, Import run) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON import must be an array of patients");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == null) {
+                    throw new IOException("Unexpected end of JSON array");
+                }
+                run.rowNumber++;
+                // Read the element as a tree first so a bad field rejects this row without losing the parser's place
+                JsonNode node = parser.readValueAsTree();
+                Patient patient;
+                try {
+                    patient = objectMapper.treeToValue(node, Patient.class);
+                } catch (JsonProcessingException e) {
+                    run.result.addError(run.rowNumber, "Invalid patient: " + e.getOriginalMessage());
+                    continue;
+                }
+                if (patient == null) {
+                    run.result.addError(run.rowNumber, "Invalid patient: null");
+                    continue;
+                }
+                patient.setId(null);
+                run.accept(patient);
+            }
+        }
+    }
+
+    private String validate(Patient patient) {
+        // Validate required fields
+        if (isBlank(patient.getPatientName()) || isBlank(patient.getGender()) || patient.getAge() == null ||
+            isBlank(patient.getBloodGroup()) || isBlank(patient.getContactNumber()) || isBlank(patient.getAddress())) {
+            return "All fields are required";
+        }
+        if (patient.getAge() < 0 || patient.getAge() > 150) {
+            return "Age must be between 0 and 150";
+        }
+        return null;
+    }
+
+    /**
+     * Accumulates valid rows and writes them out every commitInterval rows
+     */
+    private class Import {
+
+        private final PatientImportResult result = new PatientImportResult();
+        private final List<Long> rows = new ArrayList<>();
+        private final List<Patient> patients = new ArrayList<>();
+        private long rowNumber;
+
+        void accept(Patient patient) {
+            String error = validate(patient);
+            if (error != null) {
+                result.addError(rowNumber, error);
+                return;
+            }
+            patient.setActive(true);
+            rows.add(rowNumber);
+            patients.add(patient);
+            if (patients.size() >= commitInterval) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (patients.isEmpty()) {
+                return;
+            }
+            try {
+                insert(patients);
+                result.setImportedRows(result.getImportedRows() + patients.size());
+            } catch (RuntimeException chunkFailure) {
+                // One bad row rolls back the whole chunk; retry individually to find it
+                for (int i = 0; i < patients.size(); i++) {
+                    try {
+                        insert(List.of(copyOf(patients.get(i))));
+                        result.setImportedRows(result.getImportedRows() + 1);
+                    } catch (RuntimeException e) {
+                        result.addError(rows.get(i), "Insert failed: " + rootMessage(e));
+                    }
+                }
+            }
+            rows.clear();
+            patients.clear();
+        }
+    }
+
+    private void insert(List<Patient> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (Patient patient : chunk) {
+                entityManager.persist(patient);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            List<PatientChangedEvent.Snapshot> imported = new ArrayList<>(chunk.size());
+            for (Patient patient : chunk) {
+                imported.add(new PatientChangedEvent.Snapshot(patient));
+            }
+            eventPublisher.publishEvent(new PatientsImportedEvent(imported));
+            collectionVersionService.bump(CollectionVersionService.PATIENTS);
+        });
+    }
+
+    // The failed attempt already assigned an id to the original instance
+    private static Patient copyOf(Patient patient) {
+        Patient copy = new Patient(patient.getPatientName(), patient.getGender(), patient.getAge(),
+            patient.getBloodGroup(), patient.getContactNumber(), patient.getAddress());
+        copy.setActive(true);
+        return copy;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> positions, String column) {
+        int position = positions.get(column);
+        if (position >= record.size()) {
+            return null;
+        }
+        String value = record.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String normalize(String header) {
+        return header.replaceAll("[\\s_\\-]", "").toLowerCase();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
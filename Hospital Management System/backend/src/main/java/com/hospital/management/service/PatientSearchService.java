@@ -0,0 +1,18 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.PatientSearchHit;
+import com.hospital.management.util.CursorUtil;
+
+import java.util.List;
+
+public interface PatientSearchService {
+
+    /**
+     * Deepest rank a search can be paged to (100 pages of the largest page size)
+     */
+    int MAX_OFFSET = 100 * CursorUtil.MAX_LIMIT;
+
+    List<PatientSearchHit> search(String query, int offset, int limit);
+
+    int rebuild();
+}
@@ -0,0 +1,474 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.PatientSearchHit;
+import com.hospital.management.event.PatientChangedEvent;
+import com.hospital.management.event.PatientsImportedEvent;
+import com.hospital.management.repository.PatientRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process trigram index over active patients' names and contact numbers.
+ *
+ * Names are split into words and indexed by padded trigrams ("  j", " jo", "joh", "ohn", "hn "),
+ * so a misspelt query still shares most of its trigrams with the right name; matches are scored
+ * by trigram overlap (Dice coefficient) with a bonus for exact and word-prefix hits. Queries made
+ * of digits search contact numbers for the exact digit sequence anywhere in the number.
+ *
+ * Documents are only ever appended: an update appends a new document and tombstones the old one,
+ * so posting lists stay sorted without rewriting them. Tombstones are compacted away once they
+ * make up a quarter of the index.
+ */
+@Service
+public class PatientSearchServiceImpl implements PatientSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PatientSearchServiceImpl.class);
+
+    // A name must share at least this fraction of the query's trigrams to match
+    private static final double MIN_SHARED_FRACTION = 0.4;
+    private static final int MIN_PHONE_DIGITS = 3;
+    private static final int MIN_COMPACTION_TOMBSTONES = 1000;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock
+    private Index index = new Index();
+
+    @Override
+    public List<PatientSearchHit> search(String query, int offset, int limit) {
+        if (offset < 0 || offset > MAX_OFFSET || limit < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        TopMatches top = new TopMatches(Math.addExact(offset, limit));
+        lock.readLock().lock();
+        try {
+            String digits = query.replaceAll("[\\s+()\\-.]", "");
+            if (!digits.isEmpty() && digits.chars().allMatch(Character::isDigit)) {
+                if (digits.length() >= MIN_PHONE_DIGITS) {
+                    index.searchPhone(digits, top);
+                }
+            } else {
+                index.searchName(normalizeName(query), top);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> matches = top.ranked();
+        List<PatientSearchHit> hits = new ArrayList<>();
+        for (int i = offset; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            hits.add(new PatientSearchHit(i + 1, match.patientId, match.name, match.contact,
+                Math.round(match.score * 1000) / 1000.0));
+        }
+        return hits;
+    }
+
+    /**
+     * Reload the index from the patients table. A write that commits while the rows
+     * are being read can be lost until the next refresh.
+     */
+    @Override
+    public int rebuild() {
+        Index rebuilt = new Index();
+        List<Object[]> rows = patientRepository.findActiveNamesAndContacts();
+        for (Object[] row : rows) {
+            rebuilt.add((Long) row[0], (String) row[1], (String) row[2]);
+        }
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return rows.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long started = System.currentTimeMillis();
+        int patients = rebuild();
+        log.info("Indexed {} patients for search in {} ms", patients, System.currentTimeMillis() - started);
+    }
+
+    @Scheduled(fixedDelayString = "${patients.search.refresh-interval-ms:600000}",
+               initialDelayString = "${patients.search.refresh-interval-ms:600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onPatientChanged(PatientChangedEvent event) {
+        PatientChangedEvent.Snapshot before = event.getBefore();
+        PatientChangedEvent.Snapshot after = event.getAfter();
+        afterCommit(() -> write(index -> {
+            if (after != null) {
+                index.add(after.getId(), after.getPatientName(), after.getContactNumber());
+            } else if (before != null) {
+                index.remove(before.getId());
+            }
+        }));
+    }
+
+    @EventListener
+    public void onPatientsImported(PatientsImportedEvent event) {
+        List<PatientChangedEvent.Snapshot> patients = event.getPatients();
+        afterCommit(() -> write(index -> {
+            for (PatientChangedEvent.Snapshot patient : patients) {
+                index.add(patient.getId(), patient.getPatientName(), patient.getContactNumber());
+            }
+        }));
+    }
+
+    private void write(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (index.tombstones >= MIN_COMPACTION_TOMBSTONES && index.tombstones * 4 >= index.size) {
+                index = index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Lower case, accents removed, anything but letters and digits turned into single spaces
+    static String normalizeName(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return decomposed.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    static String digitsOf(String text) {
+        return text == null ? "" : text.replaceAll("\\D", "");
+    }
+
+    // Distinct padded word trigrams, each packed into a long (three 16-bit chars)
+    static long[] nameTrigrams(String normalized) {
+        if (normalized.isEmpty()) {
+            return new long[0];
+        }
+        long[] grams = new long[normalized.length() * 3 + 3];
+        int count = 0;
+        for (String word : normalized.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams[count++] = pack(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2));
+            }
+        }
+        return distinct(grams, count);
+    }
+
+    static long[] digitTrigrams(String digits) {
+        long[] grams = new long[Math.max(0, digits.length() - 2)];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = pack(digits.charAt(i), digits.charAt(i + 1), digits.charAt(i + 2));
+        }
+        return distinct(grams, grams.length);
+    }
+
+    private static long pack(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private static long[] distinct(long[] values, int count) {
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    /**
+     * Documents are numbered in insertion order, so every posting list is sorted by document
+     */
+    private static final class Index {
+
+        private static final int[] EMPTY = new int[0];
+
+        private long[] patientIds = new long[1024];
+        private String[] names = new String[1024];
+        private String[] contacts = new String[1024];
+        private String[] normalizedNames = new String[1024];
+        private int[] gramCounts = new int[1024];
+        private final BitSet live = new BitSet();
+        private final Map<Long, Integer> documentOf = new HashMap<>();
+        private final Map<Long, Postings> nameIndex = new HashMap<>();
+        private final Map<Long, Postings> phoneIndex = new HashMap<>();
+        private int size;
+        private int tombstones;
+
+        void add(Long patientId, String name, String contact) {
+            remove(patientId);
+            if (size == patientIds.length) {
+                int capacity = size * 2;
+                patientIds = Arrays.copyOf(patientIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                contacts = Arrays.copyOf(contacts, capacity);
+                normalizedNames = Arrays.copyOf(normalizedNames, capacity);
+                gramCounts = Arrays.copyOf(gramCounts, capacity);
+            }
+            int document = size++;
+            String normalized = normalizeName(name);
+            long[] grams = nameTrigrams(normalized);
+            patientIds[document] = patientId;
+            names[document] = name;
+            contacts[document] = contact;
+            normalizedNames[document] = normalized;
+            gramCounts[document] = grams.length;
+            for (long gram : grams) {
+                nameIndex.computeIfAbsent(gram, key -> new Postings()).add(document);
+            }
+            for (long gram : digitTrigrams(digitsOf(contact))) {
+                phoneIndex.computeIfAbsent(gram, key -> new Postings()).add(document);
+            }
+            live.set(document);
+            documentOf.put(patientId, document);
+        }
+
+        void remove(Long patientId) {
+            Integer document = documentOf.remove(patientId);
+            if (document != null) {
+                live.clear(document);
+                tombstones++;
+            }
+        }
+
+        Index compact() {
+            Index compacted = new Index();
+            for (int document = live.nextSetBit(0); document >= 0; document = live.nextSetBit(document + 1)) {
+                compacted.add(patientIds[document], names[document], contacts[document]);
+            }
+            return compacted;
+        }
+
+        void searchName(String normalizedQuery, TopMatches top) {
+            long[] grams = nameTrigrams(normalizedQuery);
+            if (grams.length == 0) {
+                return;
+            }
+            int[][] lists = new int[grams.length][];
+            int[] lengths = new int[grams.length];
+            Integer[] order = new Integer[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                Postings postings = nameIndex.get(grams[i]);
+                lists[i] = postings != null ? postings.documents : EMPTY;
+                lengths[i] = postings != null ? postings.size : 0;
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> lengths[i]));
+
+            // A document sharing at least `required` of the n trigrams must appear in one of the
+            // n - required + 1 shortest lists; count those, then probe the longer lists only for candidates
+            int required = Math.max(1, (int) Math.ceil(grams.length * MIN_SHARED_FRACTION));
+            int scanned = grams.length - required + 1;
+            int[] shared = new int[size];
+            int[] candidates = new int[Math.min(size, 1024)];
+            int candidateCount = 0;
+            for (int k = 0; k < scanned; k++) {
+                int list = order[k];
+                for (int j = 0; j < lengths[list]; j++) {
+                    int document = lists[list][j];
+                    if (shared[document]++ == 0) {
+                        if (candidateCount == candidates.length) {
+                            candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                        }
+                        candidates[candidateCount++] = document;
+                    }
+                }
+            }
+
+            String wordPrefix = " " + normalizedQuery;
+            for (int c = 0; c < candidateCount; c++) {
+                int document = candidates[c];
+                if (!live.get(document)) {
+                    continue;
+                }
+                int count = shared[document];
+                for (int k = scanned; k < grams.length && count + (grams.length - k) >= required; k++) {
+                    int list = order[k];
+                    if (Arrays.binarySearch(lists[list], 0, lengths[list], document) >= 0) {
+                        count++;
+                    }
+                }
+                if (count < required) {
+                    continue;
+                }
+                double score = 2.0 * count / (grams.length + gramCounts[document]);
+                String name = normalizedNames[document];
+                if (name.equals(normalizedQuery)) {
+                    score += 1.0;
+                } else if (name.startsWith(normalizedQuery) || name.contains(wordPrefix)) {
+                    score += 0.5;
+                } else if (name.contains(normalizedQuery)) {
+                    score += 0.25;
+                }
+                if (top.accepts(score, name, patientIds[document])) {
+                    top.add(new Match(patientIds[document], names[document], contacts[document], name, score));
+                }
+            }
+        }
+
+        void searchPhone(String digits, TopMatches top) {
+            long[] grams = digitTrigrams(digits);
+            int[] candidates = null;
+            int count = 0;
+            // Intersect the posting lists, shortest first
+            Postings[] lists = new Postings[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = phoneIndex.get(grams[i]);
+                if (lists[i] == null) {
+                    return;
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(postings -> postings.size));
+            for (Postings postings : lists) {
+                if (candidates == null) {
+                    candidates = Arrays.copyOf(postings.documents, postings.size);
+                    count = postings.size;
+                    continue;
+                }
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    if (Arrays.binarySearch(postings.documents, 0, postings.size, candidates[i]) >= 0) {
+                        candidates[kept++] = candidates[i];
+                    }
+                }
+                count = kept;
+            }
+
+            for (int i = 0; i < count; i++) {
+                int document = candidates[i];
+                String contact = digitsOf(contacts[document]);
+                // Trigrams can all be present without being in sequence; check the actual digits
+                if (!live.get(document) || !contact.contains(digits)) {
+                    continue;
+                }
+                double score = contact.equals(digits) ? 3.0 : contact.endsWith(digits) ? 2.0
+                    : contact.startsWith(digits) ? 1.5 : 1.0;
+                top.add(new Match(patientIds[document], names[document], contacts[document],
+                    normalizedNames[document], score));
+            }
+        }
+    }
+
+    /**
+     * Keeps the best `capacity` matches seen so far; the worst of them sits at the head of the heap
+     */
+    private static final class TopMatches {
+
+        private final int capacity;
+        private final PriorityQueue<Match> heap;
+
+        TopMatches(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(capacity, 256)), Match.RANKING.reversed());
+        }
+
+        // Checked before building a Match, so most candidates allocate nothing
+        boolean accepts(double score, String normalizedName, long patientId) {
+            if (heap.size() < capacity) {
+                return true;
+            }
+            Match worst = heap.peek();
+            if (score != worst.score) {
+                return score > worst.score;
+            }
+            int byName = normalizedName.compareTo(worst.normalizedName);
+            return byName != 0 ? byName < 0 : patientId < worst.patientId;
+        }
+
+        void add(Match match) {
+            if (capacity == 0) {
+                return;
+            }
+            heap.add(match);
+            if (heap.size() > capacity) {
+                heap.poll();
+            }
+        }
+
+        List<Match> ranked() {
+            List<Match> ranked = new ArrayList<>(heap);
+            ranked.sort(Match.RANKING);
+            return ranked;
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private int size;
+
+        void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+    }
+
+    private static final class Match {
+
+        // Best first: score, then name, then id
+        private static final Comparator<Match> RANKING = Comparator
+            .comparingDouble((Match match) -> match.score).reversed()
+            .thenComparing(match -> match.normalizedName)
+            .thenComparingLong(match -> match.patientId);
+
+        private final long patientId;
+        private final String name;
+        private final String contact;
+        private final String normalizedName;
+        private final double score;
+
+        private Match(long patientId, String name, String contact, String normalizedName, double score) {
+            this.patientId = patientId;
+            this.name = name;
+            this.contact = contact;
+            this.normalizedName = normalizedName;
+            this.score = score;
+        }
+    }
+}
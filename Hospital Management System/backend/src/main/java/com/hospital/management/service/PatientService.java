@@ -3,6 +3,7 @@ package com.hospital.management.service;
 import com.hospital.management.model.Patient;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PatientService {
     
@@ -10,6 +11,10 @@ public interface PatientService {
     
     List<Patient> getAllPatients();
     
+    void streamAllPatients(Consumer<Patient> sink);
+    
+    List<Patient> getPatientsAfter(Long afterId, int limit);
+    
     Patient getPatientById(Long id);
     
     Patient updatePatient(Long id, Patient patient);
@@ -1,22 +1,46 @@
 package com.hospital.management.service;
 
+import com.hospital.management.event.PatientChangedEvent;
 import com.hospital.management.model.Patient;
 import com.hospital.management.repository.PatientRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class PatientServiceImpl implements PatientService {
 
+    private static final int STREAM_CLEAR_INTERVAL = 1000;
+
     @Autowired
     private PatientRepository patientRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
+    @Transactional
     public Patient createPatient(Patient patient) {
         patient.setActive(true);
-        return patientRepository.save(patient);
+        Patient savedPatient = patientRepository.save(patient);
+        eventPublisher.publishEvent(new PatientChangedEvent(null, new PatientChangedEvent.Snapshot(savedPatient)));
+        collectionVersionService.bump(CollectionVersionService.PATIENTS);
+        return savedPatient;
     }
 
     @Override
@@ -24,6 +48,27 @@ public class PatientServiceImpl implements PatientService {
         return patientRepository.findByActiveTrue();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllPatients(Consumer<Patient> sink) {
+        long streamed = 0;
+        try (Stream<Patient> patients = patientRepository.streamActive()) {
+            Iterator<Patient> iterator = patients.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                // Detach rows already written so the persistence context does not grow with the list
+                if (++streamed % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<Patient> getPatientsAfter(Long afterId, int limit) {
+        return patientRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
     @Override
     public Patient getPatientById(Long id) {
         return patientRepository.findByIdAndActiveTrue(id)
@@ -31,6 +76,7 @@ public class PatientServiceImpl implements PatientService {
     }
 
     @Override
+    @Transactional
     public Patient updatePatient(Long id, Patient patient) {
         Patient existingPatient = patientRepository.findByIdAndActiveTrue(id)
                 .orElse(null);
@@ -39,6 +85,8 @@ public class PatientServiceImpl implements PatientService {
             return null;
         }
         
+        PatientChangedEvent.Snapshot before = new PatientChangedEvent.Snapshot(existingPatient);
+        
         existingPatient.setPatientName(patient.getPatientName());
         existingPatient.setGender(patient.getGender());
         existingPatient.setAge(patient.getAge());
@@ -46,17 +94,24 @@ public class PatientServiceImpl implements PatientService {
         existingPatient.setContactNumber(patient.getContactNumber());
         existingPatient.setAddress(patient.getAddress());
         
-        return patientRepository.save(existingPatient);
+        Patient savedPatient = patientRepository.save(existingPatient);
+        eventPublisher.publishEvent(new PatientChangedEvent(before, new PatientChangedEvent.Snapshot(savedPatient)));
+        collectionVersionService.bump(CollectionVersionService.PATIENTS);
+        return savedPatient;
     }
 
     @Override
+    @Transactional
     public void deletePatient(Long id) {
         Patient patient = patientRepository.findByIdAndActiveTrue(id)
                 .orElse(null);
         
         if (patient != null) {
+            PatientChangedEvent.Snapshot before = new PatientChangedEvent.Snapshot(patient);
             patient.setActive(false);
             patientRepository.save(patient);
+            eventPublisher.publishEvent(new PatientChangedEvent(before, null));
+            collectionVersionService.bump(CollectionVersionService.PATIENTS);
         }
     }
 }
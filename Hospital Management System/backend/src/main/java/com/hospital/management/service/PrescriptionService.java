@@ -1,20 +1,33 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.PrescriptionSummary;
 import com.hospital.management.model.Prescription;
+import com.hospital.management.model.PrescriptionItem;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PrescriptionService {
     
     Prescription createPrescription(Prescription prescription);
     
-    List<Prescription> getAllPrescriptions();
+    List<PrescriptionSummary> getAllPrescriptions();
+    
+    void streamAllPrescriptions(Consumer<PrescriptionSummary> sink);
+    
+    List<PrescriptionSummary> getPrescriptionsAfter(Long afterId, int limit);
     
     Optional<Prescription> getPrescriptionById(Long id);
     
-    Prescription updatePrescription(Long id, Prescription prescriptionDetails);
+    /**
+     * Update the prescription; items, when not null, replace its medicine lines, which fails with
+     * IllegalStateException once the prescription has been dispensed
+     */
+    Prescription updatePrescription(Long id, Prescription prescriptionDetails, List<PrescriptionItem> items);
     
     void deletePrescription(Long id);
+    
+    Prescription dispensePrescription(Long id);
 }
 
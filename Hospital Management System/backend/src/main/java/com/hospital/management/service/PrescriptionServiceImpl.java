@@ -1,15 +1,25 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.PrescriptionSummary;
+import com.hospital.management.exception.InsufficientStockException;
+import com.hospital.management.model.Medicine;
 import com.hospital.management.model.Prescription;
+import com.hospital.management.model.PrescriptionItem;
+import com.hospital.management.repository.MedicineRepository;
 import com.hospital.management.repository.PrescriptionRepository;
 import com.hospital.management.repository.PatientRepository;
 import com.hospital.management.repository.DoctorRepository;
 import com.hospital.management.repository.AppointmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class PrescriptionServiceImpl implements PrescriptionService {
@@ -26,14 +36,37 @@ public class PrescriptionServiceImpl implements PrescriptionService {
     @Autowired
     private AppointmentRepository appointmentRepository;
 
+    @Autowired
+    private MedicineRepository medicineRepository;
+
+    @Autowired
+    private MedicineSuggestService medicineSuggestService;
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
     @Override
+    @Transactional
     public Prescription createPrescription(Prescription prescription) {
         return prescriptionRepository.save(prescription);
     }
 
     @Override
-    public List<Prescription> getAllPrescriptions() {
-        return prescriptionRepository.findByActiveTrue();
+    public List<PrescriptionSummary> getAllPrescriptions() {
+        return prescriptionRepository.findActiveSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllPrescriptions(Consumer<PrescriptionSummary> sink) {
+        try (Stream<PrescriptionSummary> prescriptions = prescriptionRepository.streamActiveSummaries()) {
+            prescriptions.forEach(sink);
+        }
+    }
+
+    @Override
+    public List<PrescriptionSummary> getPrescriptionsAfter(Long afterId, int limit) {
+        return prescriptionRepository.findActiveSummariesAfter(afterId, Limit.of(limit));
     }
 
     @Override
@@ -42,8 +75,16 @@ public class PrescriptionServiceImpl implements PrescriptionService {
     }
 
     @Override
-    public Prescription updatePrescription(Long id, Prescription prescriptionDetails) {
+    @Transactional
+    public Prescription updatePrescription(Long id, Prescription prescriptionDetails, List<PrescriptionItem> items) {
         return prescriptionRepository.findByIdAndActiveTrue(id).map(prescription -> {
+            if (items != null) {
+                // Checked under the row lock a dispense also takes, not on the copy read earlier
+                if (prescriptionRepository.lockUndispensed(id).isEmpty()) {
+                    throw new IllegalStateException("Prescription has already been dispensed");
+                }
+                prescription.replaceItems(items);
+            }
             prescription.setPrescriptionDate(prescriptionDetails.getPrescriptionDate());
             prescription.setDiagnosis(prescriptionDetails.getDiagnosis());
             prescription.setMedicines(prescriptionDetails.getMedicines());
@@ -71,5 +112,41 @@ public class PrescriptionServiceImpl implements PrescriptionService {
             prescriptionRepository.save(prescription);
         });
     }
-}
 
+    /**
+     * Dispense every line of the prescription in one transaction. Each medicine's stock is taken
+     * down by a conditional UPDATE, so no stock row is read and written back and only the rows
+     * being dispensed are locked; if any line is short the whole dispense rolls back.
+     */
+    @Override
+    @Transactional
+    public Prescription dispensePrescription(Long id) {
+        // Claim the prescription first so two pharmacists cannot dispense it twice
+        if (prescriptionRepository.markDispensed(id, LocalDateTime.now()) == 0) {
+            if (prescriptionRepository.findByIdAndActiveTrue(id).isEmpty()) {
+                return null;
+            }
+            throw new IllegalStateException("Prescription has already been dispensed");
+        }
+
+        List<Object[]> lines = prescriptionRepository.sumItemQuantitiesByMedicine(id);
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Prescription has no medicine items to dispense");
+        }
+
+        // Lines are in medicine id order, so concurrent dispenses lock stock rows in the same order and cannot deadlock
+        for (Object[] line : lines) {
+            Long medicineId = (Long) line[0];
+            int quantity = ((Number) line[1]).intValue();
+            if (medicineRepository.decrementStock(medicineId, quantity) == 0) {
+                String name = medicineRepository.findById(medicineId).map(Medicine::getMedicineName).orElse("#" + medicineId);
+                throw new InsufficientStockException(medicineId,
+                    "Insufficient stock for " + name + " (requested " + quantity + ")");
+            }
+            medicineSuggestService.adjustStock(medicineId, -quantity);
+        }
+        collectionVersionService.bump(CollectionVersionService.MEDICINES);
+
+        return prescriptionRepository.findByIdAndActiveTrue(id).orElse(null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.ReportBucket;
+import com.hospital.management.dto.ReportJob;
+import com.hospital.management.model.ReportGranularity;
+import com.hospital.management.model.ReportType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReportJobService {
+
+    /**
+     * Queue a report, or return the queued, running or fresh completed job for the same request.
+     * Throws RejectedExecutionException when the job queue is full.
+     */
+    ReportJob submit(ReportType type, ReportGranularity granularity, LocalDate from, LocalDate to, boolean refresh);
+
+    ReportJob getJob(String jobId);
+
+    /**
+     * The rows of a completed job, or null if the job is unknown, expired or not completed
+     */
+    List<ReportBucket> getResult(String jobId);
+}
@@ -0,0 +1,228 @@
+package com.hospital.management.service;
+
+import com.hospital.management.dto.ReportBucket;
+import com.hospital.management.dto.ReportJob;
+import com.hospital.management.model.ReportGranularity;
+import com.hospital.management.model.ReportType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs reports on a fixed pool of workers behind a bounded queue, and keeps each result in
+ * memory for a TTL. Jobs are keyed by their request (report, granularity, range): a submission
+ * matching a queued or running job joins it, and one matching a fresh completed job gets that
+ * job back without recomputing. Results are not invalidated by writes; pass refresh to recompute.
+ */
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobServiceImpl.class);
+
+    @Autowired
+    private ReportsService reportsService;
+
+    @Value("${reports.jobs.workers:2}")
+    private int workers;
+
+    @Value("${reports.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${reports.jobs.result-ttl-ms:600000}")
+    private long resultTtlMillis;
+
+    private ThreadPoolExecutor executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // Latest job per distinct request, for deduplication and cache hits
+    private final Map<String, Job> latestByKey = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "report-job-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ReportJob submit(ReportType type, ReportGranularity granularity, LocalDate from, LocalDate to,
+                            boolean refresh) {
+        // Validate range
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        String key = type + "|" + granularity + "|" + from + "|" + to;
+        Job[] created = new Job[1];
+        Job job = latestByKey.compute(key, (k, existing) -> {
+            if (existing != null && existing.reusable(refresh)) {
+                return existing;
+            }
+            created[0] = new Job(key, type, granularity, from, to);
+            return created[0];
+        });
+        if (created[0] == null) {
+            return job.view();
+        }
+
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            latestByKey.remove(key, job);
+            throw e;
+        }
+        return job.view();
+    }
+
+    @Override
+    public ReportJob getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        return job != null && !job.expired() ? job.view() : null;
+    }
+
+    @Override
+    public List<ReportBucket> getResult(String jobId) {
+        Job job = jobs.get(jobId);
+        return job != null && !job.expired() && job.status == ReportJob.Status.COMPLETED ? job.result : null;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        jobs.values().removeIf(job -> {
+            if (!job.expired()) {
+                return false;
+            }
+            latestByKey.remove(job.key, job);
+            return true;
+        });
+    }
+
+    private void run(Job job) {
+        job.startedAt = LocalDateTime.now();
+        job.status = ReportJob.Status.RUNNING;
+        try {
+            List<ReportBucket> result;
+            switch (job.type) {
+                case APPOINTMENTS:
+                    result = reportsService.getAppointmentCounts(job.granularity, job.from, job.to);
+                    break;
+                case REVENUE:
+                    result = reportsService.getRevenue(job.granularity, job.from, job.to);
+                    break;
+                case APPOINTMENTS_BY_DOCTOR:
+                    result = reportsService.getAppointmentCountsByDoctor(job.granularity, job.from, job.to);
+                    break;
+                default:
+                    result = reportsService.getRevenueByPaymentMode(job.granularity, job.from, job.to);
+                    break;
+            }
+            job.result = List.copyOf(result);
+            job.finish(ReportJob.Status.COMPLETED, resultTtlMillis);
+        } catch (Exception e) {
+            log.warn("Report job {} ({}) failed", job.id, job.key, e);
+            job.error = e.getMessage();
+            job.finish(ReportJob.Status.FAILED, resultTtlMillis);
+        }
+    }
+
+    private static final class Job {
+
+        private final String id = UUID.randomUUID().toString();
+        private final String key;
+        private final ReportType type;
+        private final ReportGranularity granularity;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile ReportJob.Status status = ReportJob.Status.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        // System.currentTimeMillis() after which the job and its result are dropped; 0 while pending
+        private volatile long expiresAtMillis;
+        private volatile LocalDateTime expiresAt;
+        private volatile List<ReportBucket> result;
+        private volatile String error;
+
+        private Job(String key, ReportType type, ReportGranularity granularity, LocalDate from, LocalDate to) {
+            this.key = key;
+            this.type = type;
+            this.granularity = granularity;
+            this.from = from;
+            this.to = to;
+        }
+
+        void finish(ReportJob.Status finalStatus, long ttlMillis) {
+            completedAt = LocalDateTime.now();
+            expiresAt = completedAt.plus(Duration.ofMillis(ttlMillis));
+            expiresAtMillis = System.currentTimeMillis() + ttlMillis;
+            // Written last, so a reader that sees the final status also sees the result
+            status = finalStatus;
+        }
+
+        boolean expired() {
+            return expiresAtMillis != 0 && System.currentTimeMillis() >= expiresAtMillis;
+        }
+
+        // Pending jobs are always joined; a completed one only while fresh and not refreshed; failures never
+        boolean reusable(boolean refresh) {
+            switch (status) {
+                case QUEUED:
+                case RUNNING:
+                    return true;
+                case COMPLETED:
+                    return !refresh && !expired();
+                default:
+                    return false;
+            }
+        }
+
+        ReportJob view() {
+            ReportJob view = new ReportJob();
+            view.setId(id);
+            view.setReport(type.name());
+            view.setGranularity(granularity.name());
+            view.setFrom(from);
+            view.setTo(to);
+            ReportJob.Status current = status;
+            view.setStatus(current);
+            view.setSubmittedAt(submittedAt);
+            view.setStartedAt(startedAt);
+            view.setCompletedAt(completedAt);
+            if (current == ReportJob.Status.COMPLETED || current == ReportJob.Status.FAILED) {
+                view.setExpiresAt(expiresAt);
+                if (result != null) {
+                    view.setRowCount(result.size());
+                }
+                view.setError(error);
+            }
+            return view;
+        }
+    }
+}
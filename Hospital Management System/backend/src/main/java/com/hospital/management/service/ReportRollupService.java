@@ -0,0 +1,6 @@
+package com.hospital.management.service;
+
+public interface ReportRollupService {
+    
+    long rebuild();
+}
@@ -0,0 +1,141 @@
+package com.hospital.management.service;
+
+import com.hospital.management.event.AppointmentChangedEvent;
+import com.hospital.management.event.BillingChangedEvent;
+import com.hospital.management.model.ReportGranularity;
+import com.hospital.management.model.ReportRollup;
+import com.hospital.management.model.ReportRollupId;
+import com.hospital.management.repository.AppointmentRepository;
+import com.hospital.management.repository.BillingRepository;
+import com.hospital.management.repository.ReportRollupRepository;
+import com.hospital.management.util.MoneyUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the report_rollups table. Appointment and billing writes adjust every granularity's
+ * bucket in the writing transaction, so reports never have to group the raw rows.
+ */
+@Service
+public class ReportRollupServiceImpl implements ReportRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportRollupServiceImpl.class);
+
+    @Autowired
+    private ReportRollupRepository reportRollupRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private BillingRepository billingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Recompute every rollup from the source tables. Day totals are read with a plain
+     * GROUP BY on the date column and folded into the coarser buckets here.
+     */
+    @Override
+    public long rebuild() {
+        return transactionTemplate.execute(status -> {
+            reportRollupRepository.deleteAllRollups();
+
+            Map<ReportRollupId, ReportRollup> rollups = new HashMap<>();
+            for (Object[] row : appointmentRepository.countActiveByAppointmentDate()) {
+                fold(rollups, ReportRollup.APPOINTMENTS, (LocalDate) row[0], ((Number) row[1]).longValue(), 0L);
+            }
+            for (Object[] row : billingRepository.sumPaidByBillDate()) {
+                fold(rollups, ReportRollup.PAID_REVENUE, (LocalDate) row[0],
+                    ((Number) row[1]).longValue(), MoneyUtil.toMinor((Number) row[2]));
+            }
+
+            // The table was just emptied, so persist directly rather than let save() look up each key first
+            for (ReportRollup rollup : rollups.values()) {
+                entityManager.persist(rollup);
+            }
+            return (long) rollups.size();
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (reportRollupRepository.count() == 0) {
+            long buckets = rebuild();
+            log.info("Built {} report rollup buckets from source tables", buckets);
+        }
+    }
+
+    @EventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        LocalDate before = event.getBefore() != null ? event.getBefore().getAppointmentDate() : null;
+        LocalDate after = event.getAfter() != null ? event.getAfter().getAppointmentDate() : null;
+        if (before != null && before.equals(after)) {
+            return;
+        }
+        if (before != null) {
+            addToBuckets(ReportRollup.APPOINTMENTS, before, -1, 0);
+        }
+        if (after != null) {
+            addToBuckets(ReportRollup.APPOINTMENTS, after, 1, 0);
+        }
+    }
+
+    @EventListener
+    public void onBillingChanged(BillingChangedEvent event) {
+        BillingChangedEvent.Snapshot before = paidOrNull(event.getBefore());
+        BillingChangedEvent.Snapshot after = paidOrNull(event.getAfter());
+        if (before != null && after != null
+                && before.getBillDate().equals(after.getBillDate())
+                && amountMinor(before) == amountMinor(after)) {
+            return;
+        }
+        if (before != null) {
+            addToBuckets(ReportRollup.PAID_REVENUE, before.getBillDate(), -1, -amountMinor(before));
+        }
+        if (after != null) {
+            addToBuckets(ReportRollup.PAID_REVENUE, after.getBillDate(), 1, amountMinor(after));
+        }
+    }
+
+    private void addToBuckets(String metric, LocalDate date, long countDelta, long amountDelta) {
+        for (ReportGranularity granularity : ReportGranularity.values()) {
+            reportRollupRepository.addToBucket(metric, granularity.name(),
+                granularity.bucketStart(date), countDelta, amountDelta);
+        }
+    }
+
+    private static void fold(Map<ReportRollupId, ReportRollup> rollups, String metric, LocalDate date,
+                             long count, long amountMinor) {
+        for (ReportGranularity granularity : ReportGranularity.values()) {
+            ReportRollupId id = new ReportRollupId(metric, granularity.name(), granularity.bucketStart(date));
+            ReportRollup rollup = rollups.computeIfAbsent(id, key -> new ReportRollup(key, 0L, 0L));
+            rollup.setItemCount(rollup.getItemCount() + count);
+            rollup.setAmountMinor(rollup.getAmountMinor() + amountMinor);
+        }
+    }
+
+    private static BillingChangedEvent.Snapshot paidOrNull(BillingChangedEvent.Snapshot snapshot) {
+        return snapshot != null && snapshot.isPaid() && snapshot.getBillDate() != null ? snapshot : null;
+    }
+
+    private static long amountMinor(BillingChangedEvent.Snapshot snapshot) {
+        return snapshot.getTotalAmount() != null ? MoneyUtil.toMinor(snapshot.getTotalAmount()) : 0L;
+    }
+}
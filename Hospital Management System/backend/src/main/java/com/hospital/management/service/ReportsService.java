@@ -2,7 +2,10 @@ package com.hospital.management.service;
 
 import com.hospital.management.dto.MonthlyAppointmentCount;
 import com.hospital.management.dto.MonthlyRevenue;
+import com.hospital.management.dto.ReportBucket;
+import com.hospital.management.model.ReportGranularity;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ReportsService {
@@ -10,5 +13,12 @@ public interface ReportsService {
     List<MonthlyAppointmentCount> getMonthlyAppointmentCounts();
     
     List<MonthlyRevenue> getMonthlyRevenue();
+    
+    List<ReportBucket> getAppointmentCounts(ReportGranularity granularity, LocalDate from, LocalDate to);
+    
+    List<ReportBucket> getRevenue(ReportGranularity granularity, LocalDate from, LocalDate to);
+    
+    List<ReportBucket> getAppointmentCountsByDoctor(ReportGranularity granularity, LocalDate from, LocalDate to);
+    
+    List<ReportBucket> getRevenueByPaymentMode(ReportGranularity granularity, LocalDate from, LocalDate to);
 }
-
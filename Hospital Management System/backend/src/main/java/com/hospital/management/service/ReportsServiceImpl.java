@@ -2,17 +2,38 @@ package com.hospital.management.service;
 
 import com.hospital.management.dto.MonthlyAppointmentCount;
 import com.hospital.management.dto.MonthlyRevenue;
+import com.hospital.management.dto.ReportBucket;
+import com.hospital.management.model.ReportGranularity;
+import com.hospital.management.model.ReportRollup;
 import com.hospital.management.repository.AppointmentRepository;
 import com.hospital.management.repository.BillingRepository;
+import com.hospital.management.repository.ReportRollupRepository;
+import com.hospital.management.util.MoneyUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+/**
+ * Reports are answered from the report_rollups table. A range is widened to whole buckets:
+ * every bucket that overlaps [from, to] is returned in full.
+ *
+ * The per-doctor and per-payment-mode breakdowns have no rollups; they aggregate the base
+ * tables by day and fold the days into buckets here, so they get slow on long ranges.
+ */
 @Service
 public class ReportsServiceImpl implements ReportsService {
 
+    private static final LocalDate RANGE_MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate RANGE_MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    @Autowired
+    private ReportRollupRepository reportRollupRepository;
+
     @Autowired
     private AppointmentRepository appointmentRepository;
 
@@ -21,30 +42,106 @@ public class ReportsServiceImpl implements ReportsService {
 
     @Override
     public List<MonthlyAppointmentCount> getMonthlyAppointmentCounts() {
-        List<Object[]> results = appointmentRepository.getMonthlyAppointmentCountsRaw();
         List<MonthlyAppointmentCount> monthlyCounts = new ArrayList<>();
-        
-        for (Object[] result : results) {
-            String month = (String) result[0];
-            Long count = ((Number) result[1]).longValue();
-            monthlyCounts.add(new MonthlyAppointmentCount(month, count));
+        for (ReportBucket bucket : getAppointmentCounts(ReportGranularity.MONTH, null, null)) {
+            monthlyCounts.add(new MonthlyAppointmentCount(bucket.getPeriod(), bucket.getCount()));
         }
-        
         return monthlyCounts;
     }
 
     @Override
     public List<MonthlyRevenue> getMonthlyRevenue() {
-        List<Object[]> results = billingRepository.getMonthlyRevenueRaw();
         List<MonthlyRevenue> monthlyRevenues = new ArrayList<>();
-        
-        for (Object[] result : results) {
-            String month = (String) result[0];
-            Double totalRevenue = ((Number) result[1]).doubleValue();
-            monthlyRevenues.add(new MonthlyRevenue(month, totalRevenue));
+        for (ReportBucket bucket : getRevenue(ReportGranularity.MONTH, null, null)) {
+            monthlyRevenues.add(new MonthlyRevenue(bucket.getPeriod(), bucket.getTotalAmount()));
         }
-        
         return monthlyRevenues;
     }
-}
 
+    @Override
+    public List<ReportBucket> getAppointmentCounts(ReportGranularity granularity, LocalDate from, LocalDate to) {
+        List<ReportBucket> buckets = new ArrayList<>();
+        for (ReportRollup rollup : findBuckets(ReportRollup.APPOINTMENTS, granularity, from, to)) {
+            LocalDate bucketStart = rollup.getId().getBucketStart();
+            buckets.add(new ReportBucket(granularity.label(bucketStart), bucketStart, rollup.getItemCount(), null));
+        }
+        return buckets;
+    }
+
+    @Override
+    public List<ReportBucket> getRevenue(ReportGranularity granularity, LocalDate from, LocalDate to) {
+        List<ReportBucket> buckets = new ArrayList<>();
+        for (ReportRollup rollup : findBuckets(ReportRollup.PAID_REVENUE, granularity, from, to)) {
+            LocalDate bucketStart = rollup.getId().getBucketStart();
+            buckets.add(new ReportBucket(granularity.label(bucketStart), bucketStart,
+                rollup.getItemCount(), MoneyUtil.fromMinor(rollup.getAmountMinor())));
+        }
+        return buckets;
+    }
+
+    @Override
+    public List<ReportBucket> getAppointmentCountsByDoctor(ReportGranularity granularity, LocalDate from, LocalDate to) {
+        LocalDate rangeFrom = rangeFrom(granularity, from, to);
+        Map<String, Map<LocalDate, long[]>> groups = new TreeMap<>();
+        for (Object[] row : appointmentRepository.countActiveByDoctorAndDate(rangeFrom,
+                granularity.bucketEnd(rangeTo(to)))) {
+            String doctor = row[1] + " (#" + row[0] + ")";
+            long[] totals = groups.computeIfAbsent(doctor, key -> new TreeMap<>())
+                .computeIfAbsent(granularity.bucketStart((LocalDate) row[2]), key -> new long[2]);
+            totals[0] += ((Number) row[3]).longValue();
+        }
+        return toBuckets(granularity, groups, false);
+    }
+
+    @Override
+    public List<ReportBucket> getRevenueByPaymentMode(ReportGranularity granularity, LocalDate from, LocalDate to) {
+        LocalDate rangeFrom = rangeFrom(granularity, from, to);
+        Map<String, Map<LocalDate, long[]>> groups = new TreeMap<>();
+        for (Object[] row : billingRepository.sumPaidByPaymentModeAndDate(rangeFrom,
+                granularity.bucketEnd(rangeTo(to)))) {
+            String paymentMode = row[0] != null ? (String) row[0] : "UNKNOWN";
+            long[] totals = groups.computeIfAbsent(paymentMode, key -> new TreeMap<>())
+                .computeIfAbsent(granularity.bucketStart((LocalDate) row[1]), key -> new long[2]);
+            totals[0] += ((Number) row[2]).longValue();
+            // Summed in minor units, like the rollups, so buckets add up exactly
+            totals[1] += MoneyUtil.toMinor((Number) row[3]);
+        }
+        return toBuckets(granularity, groups, true);
+    }
+
+    private static List<ReportBucket> toBuckets(ReportGranularity granularity, Map<String, Map<LocalDate, long[]>> groups,
+                                                boolean withAmount) {
+        List<ReportBucket> buckets = new ArrayList<>();
+        groups.forEach((group, byBucket) -> byBucket.forEach((bucketStart, totals) -> {
+            ReportBucket bucket = new ReportBucket(granularity.label(bucketStart), bucketStart, totals[0],
+                withAmount ? MoneyUtil.fromMinor(totals[1]) : null);
+            bucket.setGroup(group);
+            buckets.add(bucket);
+        }));
+        return buckets;
+    }
+
+    private static LocalDate rangeFrom(ReportGranularity granularity, LocalDate from, LocalDate to) {
+        LocalDate rangeFrom = from != null ? from : RANGE_MIN_DATE;
+        // Validate range
+        if (rangeFrom.isAfter(rangeTo(to))) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return granularity.bucketStart(rangeFrom);
+    }
+
+    private static LocalDate rangeTo(LocalDate to) {
+        return to != null ? to : RANGE_MAX_DATE;
+    }
+
+    private List<ReportRollup> findBuckets(String metric, ReportGranularity granularity, LocalDate from, LocalDate to) {
+        LocalDate rangeFrom = from != null ? from : RANGE_MIN_DATE;
+        LocalDate rangeTo = to != null ? to : RANGE_MAX_DATE;
+        // Validate range
+        if (rangeFrom.isAfter(rangeTo)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return reportRollupRepository.findBuckets(metric, granularity.name(),
+            granularity.bucketStart(rangeFrom), rangeTo);
+    }
+}
@@ -0,0 +1,21 @@
+package com.hospital.management.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+
+public interface SlotBookingService {
+    
+    int getSlotMinutes();
+    
+    int resolveSlot(String appointmentTime);
+    
+    void reserve(Long doctorId, LocalDate date, int slot);
+    
+    void release(Long doctorId, LocalDate date, int slot);
+    
+    void markBooked(Long doctorId, LocalDate date, int slot);
+    
+    Map<Long, Map<LocalDate, BitSet>> getTakenSlots(Collection<Long> doctorIds, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,358 @@
+package com.hospital.management.service;
+
+import com.hospital.management.exception.SlotUnavailableException;
+import com.hospital.management.repository.AppointmentRepository;
+import com.hospital.management.util.SlotTimeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of booked slots per doctor and day, guarded by locks striped by doctor.
+ *
+ * A booking first reserves its slot here, which turns away concurrent requests on this node
+ * without touching the database. The unique key (doctor_id, appointment_date, booked_slot) is
+ * what guarantees no double-booking across nodes; the index only has to be a good guess, so
+ * each day is reloaded from the database once its entry is older than the configured TTL.
+ */
+@Service
+public class SlotBookingServiceImpl implements SlotBookingService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotBookingServiceImpl.class);
+
+    private static final int STRIPES = 64;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Value("${appointments.slot-minutes:15}")
+    private int slotMinutes;
+
+    @Value("${appointments.slot-index.ttl-ms:60000}")
+    private long indexTtlMillis;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final Map<DayKey, DaySlots> index = new ConcurrentHashMap<>();
+
+    public SlotBookingServiceImpl() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    @Override
+    public int resolveSlot(String appointmentTime) {
+        return SlotTimeUtil.toSlotStart(SlotTimeUtil.parseTime(appointmentTime), slotMinutes);
+    }
+
+    /**
+     * Claim a slot for the current transaction. The claim becomes a booking when the transaction
+     * commits and is dropped if it rolls back.
+     */
+    @Override
+    public void reserve(Long doctorId, LocalDate date, int slot) {
+        DayKey key = new DayKey(doctorId, date);
+        int bit = slot / slotMinutes;
+        ReentrantLock lock = stripeFor(doctorId);
+        lock.lock();
+        try {
+            DaySlots day = load(key);
+            if (day.booked.get(bit) || day.pending.get(bit)) {
+                throw new SlotUnavailableException("Doctor already has an appointment at "
+                    + SlotTimeUtil.format(slot) + " on " + date);
+            }
+            day.pending.set(bit);
+        } finally {
+            lock.unlock();
+        }
+
+        afterCompletion(committed -> {
+            lock.lock();
+            try {
+                DaySlots day = index.get(key);
+                if (day != null) {
+                    day.pending.clear(bit);
+                    if (committed) {
+                        day.booked.set(bit);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Free a slot once the current transaction commits
+     */
+    @Override
+    public void release(Long doctorId, LocalDate date, int slot) {
+        DayKey key = new DayKey(doctorId, date);
+        int bit = slot / slotMinutes;
+        ReentrantLock lock = stripeFor(doctorId);
+        afterCompletion(committed -> {
+            if (!committed) {
+                return;
+            }
+            lock.lock();
+            try {
+                DaySlots day = index.get(key);
+                if (day != null) {
+                    day.booked.clear(bit);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Record a booking this node did not know about, e.g. one made on another node
+     */
+    @Override
+    public void markBooked(Long doctorId, LocalDate date, int slot) {
+        ReentrantLock lock = stripeFor(doctorId);
+        lock.lock();
+        try {
+            DaySlots day = index.get(new DayKey(doctorId, date));
+            if (day != null) {
+                day.booked.set(slot / slotMinutes);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Taken slots (booked or being booked) per doctor and day, as bit sets indexed by slot start / slot minutes.
+     * Days missing from the index are loaded for all the doctors in a single query.
+     */
+    @Override
+    public Map<Long, Map<LocalDate, BitSet>> getTakenSlots(Collection<Long> doctorIds, LocalDate from, LocalDate to) {
+        long now = System.currentTimeMillis();
+        Map<Long, Map<LocalDate, BitSet>> taken = collectTakenSlots(doctorIds, from, to, now, false);
+        if (taken == null) {
+            loadRange(new ArrayList<>(doctorIds), from, to, now);
+            taken = collectTakenSlots(doctorIds, from, to, now, true);
+        }
+        return taken;
+    }
+
+    /**
+     * Copy the taken slots out of the index in one pass. A day missing or expired is loaded on
+     * its own with loadMissing, and otherwise makes this return null so the caller can load the
+     * whole range in one query first.
+     */
+    private Map<Long, Map<LocalDate, BitSet>> collectTakenSlots(Collection<Long> doctorIds, LocalDate from, LocalDate to,
+                                                                long now, boolean loadMissing) {
+        Map<Long, Map<LocalDate, BitSet>> taken = new LinkedHashMap<>();
+        for (Long doctorId : doctorIds) {
+            Map<LocalDate, BitSet> days = new LinkedHashMap<>();
+            ReentrantLock lock = stripeFor(doctorId);
+            lock.lock();
+            try {
+                for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                    DayKey key = new DayKey(doctorId, date);
+                    DaySlots day = index.get(key);
+                    if (day == null || day.isExpired(now, indexTtlMillis)) {
+                        if (!loadMissing) {
+                            return null;
+                        }
+                        // Evicted since the bulk load
+                        day = load(key);
+                    }
+                    BitSet bits = (BitSet) day.booked.clone();
+                    bits.or(day.pending);
+                    days.put(date, bits);
+                }
+            } finally {
+                lock.unlock();
+            }
+            taken.put(doctorId, days);
+        }
+        return taken;
+    }
+
+    /**
+     * Drop expired days that have no reservation in flight
+     */
+    @Scheduled(fixedDelayString = "${appointments.slot-index.ttl-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<DayKey, DaySlots> entry : index.entrySet()) {
+            ReentrantLock lock = stripeFor(entry.getKey().doctorId);
+            lock.lock();
+            try {
+                DaySlots day = entry.getValue();
+                if (day.isExpired(now, indexTtlMillis) && day.pending.isEmpty()) {
+                    index.remove(entry.getKey(), day);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Give live upcoming appointments created before slot booking existed their slot, so the
+     * unique key covers them too. Rows that collide with an earlier booking are left unslotted.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillBookedSlots() {
+        int assigned = 0;
+        for (Object[] row : appointmentRepository.findUnslottedFrom(LocalDate.now())) {
+            Long id = (Long) row[0];
+            try {
+                appointmentRepository.assignBookedSlot(id, resolveSlot((String) row[3]));
+                assigned++;
+            } catch (IllegalArgumentException e) {
+                log.warn("Appointment {} has an unrecognised time '{}'; it is not protected against double-booking", id, row[3]);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Appointment {} overlaps an earlier booking for doctor {} on {} at {}", id, row[1], row[2], row[3]);
+            }
+        }
+        if (assigned > 0) {
+            log.info("Assigned booked slots to {} existing appointments", assigned);
+        }
+    }
+
+    private void loadRange(List<Long> doctorIds, LocalDate from, LocalDate to, long loadedAt) {
+        Map<DayKey, DaySlots> fresh = new HashMap<>();
+        for (Long doctorId : doctorIds) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                fresh.put(new DayKey(doctorId, date), new DaySlots(loadedAt));
+            }
+        }
+        for (Object[] row : appointmentRepository.findBookedSlotsBetween(doctorIds, from, to)) {
+            DaySlots day = fresh.get(new DayKey((Long) row[0], (LocalDate) row[1]));
+            if (day != null) {
+                day.booked.set((Integer) row[2] / slotMinutes);
+            }
+        }
+        for (Map.Entry<DayKey, DaySlots> entry : fresh.entrySet()) {
+            ReentrantLock lock = stripeFor(entry.getKey().doctorId);
+            lock.lock();
+            try {
+                DaySlots existing = index.get(entry.getKey());
+                if (existing != null && !existing.isExpired(loadedAt, indexTtlMillis)) {
+                    // Still current (or reloaded by a booking while the query ran); it may hold newer bookings
+                    continue;
+                }
+                if (existing != null) {
+                    entry.getValue().pending.or(existing.pending);
+                }
+                index.put(entry.getKey(), entry.getValue());
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Must be called with the doctor's stripe held
+    private DaySlots load(DayKey key) {
+        long now = System.currentTimeMillis();
+        DaySlots day = index.get(key);
+        if (day != null && !day.isExpired(now, indexTtlMillis)) {
+            return day;
+        }
+        DaySlots fresh = new DaySlots(now);
+        for (Integer slot : appointmentRepository.findBookedSlots(key.doctorId, key.date)) {
+            fresh.booked.set(slot / slotMinutes);
+        }
+        if (day != null) {
+            // Keep claims made by transactions that are still running
+            fresh.pending.or(day.pending);
+        }
+        index.put(key, fresh);
+        return fresh;
+    }
+
+    private ReentrantLock stripeFor(Long doctorId) {
+        int hash = Long.hashCode(doctorId);
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private void afterCompletion(CompletionAction action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private interface CompletionAction {
+        void run(boolean committed);
+    }
+
+    private static final class DayKey {
+
+        private final Long doctorId;
+        private final LocalDate date;
+
+        private DayKey(Long doctorId, LocalDate date) {
+            this.doctorId = doctorId;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DayKey)) {
+                return false;
+            }
+            DayKey that = (DayKey) o;
+            return doctorId.equals(that.doctorId) && date.equals(that.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * doctorId.hashCode() + date.hashCode();
+        }
+    }
+
+    private static final class DaySlots {
+
+        private final long loadedAt;
+        private final BitSet booked = new BitSet();
+        private final BitSet pending = new BitSet();
+
+        private DaySlots(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return now - loadedAt > ttlMillis;
+        }
+    }
+}
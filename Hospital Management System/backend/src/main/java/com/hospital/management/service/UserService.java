@@ -1,12 +1,16 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.LoginResponse;
 import com.hospital.management.model.User;
 
 public interface UserService {
     
     User registerUser(String name, String email, String password, String role);
     
-    User loginUser(String email, String password);
+    /**
+     * Returns the user with a freshly issued access token, or null if the credentials are rejected
+     */
+    LoginResponse loginUser(String email, String password);
     
     boolean emailExists(String email);
 }
@@ -1,5 +1,6 @@
 package com.hospital.management.service;
 
+import com.hospital.management.dto.LoginResponse;
 import com.hospital.management.model.User;
 import com.hospital.management.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AccessTokenService accessTokenService;
+
     @Override
     public User registerUser(String name, String email, String password, String role) {
         User user = new User(name, email, password, role);
@@ -18,7 +22,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public User loginUser(String email, String password) {
+    public LoginResponse loginUser(String email, String password) {
         User user = userRepository.findByEmail(email)
                 .orElse(null);
         
@@ -34,7 +38,11 @@ public class UserServiceImpl implements UserService {
             return null;
         }
         
-        return user;
+        LoginResponse response = new LoginResponse(user.getId(), user.getName(), user.getEmail(), user.getRole());
+        response.setAccessToken(accessTokenService.issueToken(user));
+        response.setTokenType("Bearer");
+        response.setExpiresIn(accessTokenService.getTokenTtlSeconds());
+        return response;
     }
 
     @Override
@@ -0,0 +1,87 @@
+package com.hospital.management.util;
+
+import com.hospital.management.dto.ApiResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorUtil {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Check whether the client asked for a keyset page instead of the full list
+     */
+    public static boolean isPaged(Long after, Integer limit, String cursor) {
+        return after != null || limit != null || (cursor != null && !cursor.trim().isEmpty());
+    }
+
+    /**
+     * Clamp the requested page size to the allowed range
+     */
+    public static int resolveLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Resolve the last seen id from either the raw "after" parameter or an opaque cursor
+     */
+    public static Long resolveAfterId(Long after, String cursor) {
+        if (cursor != null && !cursor.trim().isEmpty()) {
+            String[] keys = decode(cursor);
+            try {
+                return Long.parseLong(keys[keys.length - 1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        return after != null ? after : 0L;
+    }
+
+    /**
+     * Encode the sort key values of the last row of a page into an opaque cursor
+     */
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode an opaque cursor back into its sort key values
+     */
+    public static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            return raw.split("\\" + SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Build a page response from rows fetched with limit + 1, so the extra row
+     * only tells us whether another page exists
+     */
+    public static <T> ApiResponse page(String message, List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new ApiResponse(true, message, rows, null);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new ApiResponse(true, message, page, cursorOf.apply(page.get(limit - 1)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.hospital.management.util;
+
+import com.hospital.management.dto.ApiResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET helpers for responses versioned by an ETag. Responses are marked
+ * "no-cache, private" so browsers keep them but revalidate with If-None-Match every time.
+ */
+public class EtagUtil {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /**
+     * A 304 response if the client's copy (If-None-Match) is current, otherwise null.
+     * Check this before loading anything, so a 304 costs no query and no serialization.
+     */
+    public static ResponseEntity<ApiResponse> notModified(WebRequest request, String etag) {
+        if (!request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * A 200 response carrying the ETag
+     */
+    public static ResponseEntity<ApiResponse> ok(ApiResponse body, String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+}
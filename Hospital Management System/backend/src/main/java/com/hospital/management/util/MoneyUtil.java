@@ -0,0 +1,72 @@
+package com.hospital.management.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Money is stored as DECIMAL(12, 2) and held as BigDecimal on the entities. Anything that adds up
+ * many amounts (dashboard counters, report rollups) works in minor units (paise) as a long instead.
+ */
+public class MoneyUtil {
+
+    public static final int PRECISION = 12;
+    public static final int SCALE = 2;
+
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.TEN.pow(PRECISION - SCALE);
+
+    /**
+     * Check that the amount fits the money columns: at most two decimal places and PRECISION digits
+     */
+    public static boolean fitsColumn(BigDecimal amount) {
+        return amount.stripTrailingZeros().scale() <= SCALE && amount.abs().compareTo(MAX_AMOUNT) < 0;
+    }
+
+    /**
+     * The amount with exactly two decimals, as it reads back from the database; null stays null
+     */
+    public static BigDecimal normalize(BigDecimal amount) {
+        return amount != null ? amount.setScale(SCALE, RoundingMode.HALF_UP) : null;
+    }
+
+    /**
+     * The amount in minor units; amounts with more than two decimals are rounded half up
+     */
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * The amount in minor units of a SUM read from the database: a BigDecimal over DECIMAL columns,
+     * an integer for an empty COALESCE, a double for columns not migrated yet
+     */
+    public static long toMinor(Number amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        if (amount instanceof BigDecimal) {
+            return toMinor((BigDecimal) amount);
+        }
+        if (amount instanceof Long || amount instanceof Integer || amount instanceof BigInteger) {
+            return Math.multiplyExact(amount.longValue(), 100L);
+        }
+        return toMinor(BigDecimal.valueOf(amount.doubleValue()));
+    }
+
+    public static BigDecimal fromMinor(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    /**
+     * Sum of the amounts with two decimals; null amounts count as zero
+     */
+    public static BigDecimal sum(BigDecimal... amounts) {
+        long minor = 0;
+        for (BigDecimal amount : amounts) {
+            if (amount != null) {
+                minor = Math.addExact(minor, toMinor(amount));
+            }
+        }
+        return fromMinor(minor);
+    }
+}
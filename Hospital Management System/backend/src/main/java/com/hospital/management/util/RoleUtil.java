@@ -1,21 +1,30 @@
 package com.hospital.management.util;
 
+import com.hospital.management.dto.AuthenticatedUser;
 import jakarta.servlet.http.HttpServletRequest;
 
 public class RoleUtil {
     
-    private static final String ROLE_HEADER = "X-User-Role";
+    /** Request attribute holding the AuthenticatedUser resolved by AccessTokenFilter */
+    public static final String PRINCIPAL_ATTRIBUTE = "hospital.authenticatedUser";
+
+    /** Client-supplied role header, honoured only when auth.legacy-role-header.enabled=true */
+    public static final String LEGACY_ROLE_HEADER = "X-User-Role";
+    
+    /**
+     * Get the caller resolved from the access token, or null for anonymous requests
+     */
+    public static AuthenticatedUser getAuthenticatedUser(HttpServletRequest request) {
+        Object user = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+        return user instanceof AuthenticatedUser ? (AuthenticatedUser) user : null;
+    }
     
     /**
-     * Get user role from request header
-     * Note: In a production system, this should be extracted from JWT token or session
+     * Get user role from the verified access token
      */
     public static String getUserRole(HttpServletRequest request) {
-        String role = request.getHeader(ROLE_HEADER);
-        if (role == null || role.trim().isEmpty()) {
-            return null;
-        }
-        return role.toUpperCase();
+        AuthenticatedUser user = getAuthenticatedUser(request);
+        return user != null ? user.getRole() : null;
     }
     
     /**
@@ -0,0 +1,59 @@
+package com.hospital.management.util;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class SlotTimeUtil {
+
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("h:mm a", Locale.US);
+
+    // Accepted spellings of the free-text appointment time, e.g. "10:00 AM", "10:00am", "10 AM", "14:30"
+    private static final List<DateTimeFormatter> INPUT_FORMATS = new ArrayList<>();
+
+    static {
+        for (String pattern : new String[] {"h:mm a", "h:mma", "h a", "ha", "H:mm"}) {
+            INPUT_FORMATS.add(new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .appendPattern(pattern)
+                .toFormatter(Locale.US));
+        }
+    }
+
+    /**
+     * Parse a free-text appointment time
+     */
+    public static LocalTime parseTime(String appointmentTime) {
+        if (appointmentTime == null || appointmentTime.trim().isEmpty()) {
+            throw new IllegalArgumentException("Appointment time is required");
+        }
+        String normalized = appointmentTime.trim().replaceAll("\\s+", " ");
+        for (DateTimeFormatter format : INPUT_FORMATS) {
+            try {
+                return LocalTime.parse(normalized, format);
+            } catch (DateTimeParseException e) {
+                // Try the next spelling
+            }
+        }
+        throw new IllegalArgumentException("Invalid appointment time: " + appointmentTime + ". Use a time such as 10:00 AM");
+    }
+
+    /**
+     * Minute of the day at which the slot containing the given time starts
+     */
+    public static int toSlotStart(LocalTime time, int slotMinutes) {
+        int minuteOfDay = time.getHour() * 60 + time.getMinute();
+        return minuteOfDay - minuteOfDay % slotMinutes;
+    }
+
+    /**
+     * Format a slot start (minute of the day) the way the frontend displays times, e.g. "10:00 AM"
+     */
+    public static String format(int slotStart) {
+        return LocalTime.of(slotStart / 60, slotStart % 60).format(DISPLAY_FORMAT);
+    }
+}
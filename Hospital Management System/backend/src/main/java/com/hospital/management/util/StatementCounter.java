@@ -0,0 +1,86 @@
+package com.hospital.management.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a scope is open.
+ * Each HTTP request runs in one scope (see StatementBudgetFilter); tests can open their own
+ * around a service call or a MockMvc request to pin its statement count:
+ *
+ *     StatementCounter.assertAtMost(3, () -> appointmentService.getAppointmentById(id));
+ *
+ * Scopes nest, and a statement counts towards every scope open on the thread. Work handed to
+ * another thread (async exports, report jobs) is not counted.
+ */
+public class StatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Start counting on this thread; close the scope to stop
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Called for every statement Hibernate prepares
+     */
+    public static void increment() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+        }
+    }
+
+    /**
+     * Number of statements the action ran
+     */
+    public static int count(Runnable action) {
+        try (Scope scope = open()) {
+            action.run();
+            return scope.getCount();
+        }
+    }
+
+    /**
+     * Run the action and fail with an AssertionError if it ran more than maxStatements statements
+     */
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        try (Scope scope = open()) {
+            T result = action.get();
+            if (scope.getCount() > maxStatements) {
+                throw new AssertionError("Expected at most " + maxStatements + " SQL statements but "
+                    + scope.getCount() + " were executed");
+            }
+            return result;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() != this) {
+                throw new IllegalStateException("Statement counter scopes must be closed innermost first");
+            }
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
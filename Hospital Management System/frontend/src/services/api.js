@@ -1,5 +1,5 @@
 import axios from 'axios';
-import { getUserRole } from '../utils/roleUtils';
+import { getUser } from '../utils/roleUtils';
 
 // Base API configuration
 const api = axios.create({
@@ -9,13 +9,13 @@ const api = axios.create({
   },
 });
 
-// Request interceptor (add role to headers for backend authorization)
+// Request interceptor (add access token to headers for backend authorization)
 api.interceptors.request.use(
   (config) => {
-    // Add user role to request headers for backend role-based authorization
-    const role = getUserRole();
-    if (role) {
-      config.headers['X-User-Role'] = role;
+    // Send the access token issued at login; the backend reads the role from it
+    const user = getUser();
+    if (user && user.accessToken) {
+      config.headers['Authorization'] = `Bearer ${user.accessToken}`;
     }
     return config;
   },
@@ -41,6 +41,8 @@ api.interceptors.response.use(
       } else if (status === 403) {
         error.message = 'Access forbidden. Please check your permissions.';
       } else if (status === 401) {
+        // Expired or invalid token: drop the stored session so the next login issues a new one
+        localStorage.removeItem('user');
         error.message = 'Unauthorized. Please login again.';
       }
     } else if (error.request) {
@@ -19,6 +19,15 @@ const medicineService = {
     }
   },
 
+  suggestMedicines: async (query, limit = 10) => {
+    try {
+      const response = await api.get('/medicines/suggest', { params: { q: query, limit } });
+      return response.data;
+    } catch (error) {
+      throw error;
+    }
+  },
+
   getMedicineById: async (id) => {
     try {
       const response = await api.get(`/medicines/${id}`);
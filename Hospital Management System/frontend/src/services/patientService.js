@@ -19,6 +19,15 @@ const patientService = {
     }
   },
 
+  searchPatients: async (query, limit = 20, cursor) => {
+    try {
+      const response = await api.get('/patients/search', { params: { q: query, limit, cursor } });
+      return response.data;
+    } catch (error) {
+      throw error;
+    }
+  },
+
   getPatientById: async (id) => {
     try {
       const response = await api.get(`/patients/${id}`);
@@ -18,6 +18,34 @@ const reportsService = {
       throw error;
     }
   },
+
+  submitReportJob: async (job) => {
+    try {
+      const response = await api.post('/reports/jobs', job);
+      return response.data;
+    } catch (error) {
+      throw error;
+    }
+  },
+
+  getReportJob: async (id) => {
+    try {
+      const response = await api.get(`/reports/jobs/${id}`);
+      return response.data;
+    } catch (error) {
+      throw error;
+    }
+  },
+
+  // Resolves with status 202 and the job while the report is still running
+  getReportJobResult: async (id) => {
+    try {
+      const response = await api.get(`/reports/jobs/${id}/result`);
+      return response.data;
+    } catch (error) {
+      throw error;
+    }
+  },
 };
 
 export default reportsService;